@@ -0,0 +1,78 @@
+package com.agm.clientes.application.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.convert.DurationUnit;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+@Data
+@ConfigurationProperties(prefix = "cache")
+public class ClienteCacheProperties {
+
+    @DurationUnit(ChronoUnit.SECONDS)
+    private Duration ttl = Duration.ofMinutes(5);
+
+    @DurationUnit(ChronoUnit.SECONDS)
+    private Duration staleTtl = Duration.ofMinutes(10);
+
+    @DurationUnit(ChronoUnit.SECONDS)
+    private Duration negativeTtl = Duration.ofSeconds(30);
+
+    @DurationUnit(ChronoUnit.SECONDS)
+    private Duration listTtl = Duration.ofSeconds(30);
+
+    private double refreshBeta = 1.0;
+
+    private DataSize compressionThreshold = DataSize.ofKilobytes(1);
+
+    private String invalidationChannel = "clientes:cache:invalidation";
+
+    private SingleFlight singleFlight = new SingleFlight();
+
+    private Maintenance maintenance = new Maintenance();
+
+    private L1 l1 = new L1();
+
+    public Duration getHardTtl() {
+        return ttl.plus(staleTtl);
+    }
+
+    @Data
+    public static class SingleFlight {
+
+        private boolean distributedLock = false;
+
+        private Duration lockTtl = Duration.ofSeconds(5);
+
+        private Duration waitInterval = Duration.ofMillis(50);
+
+        private int maxWaitAttempts = 20;
+    }
+
+    @Data
+    public static class Maintenance {
+
+        private int capacity = 10000;
+
+        private int batchSize = 256;
+
+        private Duration flushInterval = Duration.ofMillis(10);
+
+        private int maxAttempts = 5;
+
+        private Duration retryBackoff = Duration.ofMillis(200);
+
+        private Duration shutdownTimeout = Duration.ofSeconds(5);
+    }
+
+    @Data
+    public static class L1 {
+
+        private DataSize maxSize = DataSize.ofMegabytes(64);
+
+        private Duration ttl = Duration.ofSeconds(30);
+    }
+}
@@ -0,0 +1,21 @@
+package com.agm.clientes.application.dto.cache;
+
+import com.agm.clientes.application.dto.response.ClienteResponse;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClientePageCacheEntry {
+
+    private List<ClienteResponse> content;
+    private Long totalElements;
+    private boolean hasNext;
+    private String nextCursor;
+}
@@ -0,0 +1,23 @@
+package com.agm.clientes.application.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClienteBatchGetRequest {
+
+    @NotEmpty(message = "Debe indicar al menos un ID")
+    @Size(max = 500, message = "No se pueden consultar más de 500 IDs por solicitud")
+    private List<@NotNull(message = "Los IDs no pueden ser nulos") UUID> ids;
+}
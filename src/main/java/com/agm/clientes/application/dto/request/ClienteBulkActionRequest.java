@@ -0,0 +1,42 @@
+package com.agm.clientes.application.dto.request;
+
+import com.agm.clientes.domain.model.ClienteBulkOperation;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClienteBulkActionRequest {
+
+    @NotNull(message = "La acción es obligatoria")
+    private ClienteBulkOperation action;
+
+    private List<UUID> ids;
+
+    @Valid
+    private ClienteFilterRequest filter;
+
+    @JsonIgnore
+    @AssertTrue(message = "Debe indicar ids o filter, pero no ambos")
+    public boolean isTargetValid() {
+        boolean hasIds = ids != null && !ids.isEmpty();
+        return hasIds != (filter != null);
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "El filtro debe indicar al menos un criterio (activo o q)")
+    public boolean isFilterRestricted() {
+        return filter == null || filter.getActivo() != null || (filter.getQ() != null && !filter.getQ().isBlank());
+    }
+}
@@ -0,0 +1,16 @@
+package com.agm.clientes.application.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClienteFilterRequest {
+
+    private Boolean activo;
+    private String q;
+}
@@ -15,10 +15,11 @@ import lombok.NoArgsConstructor;
 @AllArgsConstructor
 public class ClientePatchRequest {
 
-    @Size(min = 3, message = "El nombre debe tener al menos 3 caracteres")
+    @Size(min = 3, max = 255, message = "El nombre debe tener entre 3 y 255 caracteres")
     private String nombre;
 
     @Email(message = "El email debe tener un formato válido")
+    @Size(max = 255, message = "El email no puede superar 255 caracteres")
     private String email;
 
     @Pattern(regexp = "^$|^\\d{7,15}$", message = "El teléfono debe tener entre 7 y 15 dígitos")
@@ -17,11 +17,12 @@ import lombok.NoArgsConstructor;
 public class ClienteUpdateRequest {
 
     @NotBlank(message = "El nombre es obligatorio")
-    @Size(min = 3, message = "El nombre debe tener al menos 3 caracteres")
+    @Size(min = 3, max = 255, message = "El nombre debe tener entre 3 y 255 caracteres")
     private String nombre;
 
     @NotBlank(message = "El email es obligatorio")
     @Email(message = "El email debe tener un formato válido")
+    @Size(max = 255, message = "El email no puede superar 255 caracteres")
     private String email;
 
     @Pattern(regexp = "^$|^\\d{7,15}$", message = "El teléfono debe tener entre 7 y 15 dígitos")
@@ -0,0 +1,21 @@
+package com.agm.clientes.application.dto.response;
+
+import com.agm.clientes.domain.model.ClienteBulkOperation;
+import com.agm.clientes.domain.model.ClienteVersion;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkActionResponse {
+
+    private ClienteBulkOperation action;
+    private int affected;
+    private List<ClienteVersion> clientes;
+}
@@ -0,0 +1,23 @@
+package com.agm.clientes.application.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkCreateItemResult {
+
+    private long index;
+    private BulkItemStatus status;
+    private UUID id;
+    private String email;
+    private String message;
+}
@@ -0,0 +1,21 @@
+package com.agm.clientes.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCreateResponse {
+
+    private int total;
+    private int created;
+    private int duplicates;
+    private int invalid;
+    private List<BulkCreateItemResult> failures;
+}
@@ -0,0 +1,8 @@
+package com.agm.clientes.application.dto.response;
+
+public enum BulkItemStatus {
+
+    CREATED,
+    DUPLICATE,
+    INVALID
+}
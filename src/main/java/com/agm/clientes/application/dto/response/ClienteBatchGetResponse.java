@@ -0,0 +1,20 @@
+package com.agm.clientes.application.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClienteBatchGetResponse {
+
+    private List<ClienteResponse> clientes;
+    private List<UUID> notFound;
+    private List<UUID> deleted;
+}
@@ -1,5 +1,7 @@
 package com.agm.clientes.application.dto.response;
 
+import com.agm.clientes.domain.model.CountMode;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -11,13 +13,17 @@ import java.util.List;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class PageResponse<T> {
 
     private List<T> content;
-    private int page;
+    private Integer page;
     private int size;
-    private long totalElements;
-    private int totalPages;
+    private Long totalElements;
+    private Integer totalPages;
+    private CountMode countMode;
     private boolean first;
     private boolean last;
+    private boolean hasNext;
+    private String nextCursor;
 }
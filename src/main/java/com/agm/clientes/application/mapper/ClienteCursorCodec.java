@@ -0,0 +1,68 @@
+package com.agm.clientes.application.mapper;
+
+import com.agm.clientes.domain.exception.InvalidCursorException;
+import com.agm.clientes.domain.model.Cliente;
+import com.agm.clientes.domain.model.ClienteCursor;
+import com.agm.clientes.domain.model.ClienteSearchHit;
+import com.agm.clientes.domain.model.ClienteSortField;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Component
+public class ClienteCursorCodec {
+
+    private static final String SEPARATOR = "|";
+    private static final String RELEVANCE = "RELEVANCE";
+
+    public String encode(Cliente last, ClienteSortField sortField, Sort.Direction direction) {
+        return encode(sortField.name(), direction, last.getId(), sortField.format(last));
+    }
+
+    public String encodeRelevance(ClienteSearchHit last) {
+        return encode(RELEVANCE, Sort.Direction.DESC, last.getCliente().getId(), Float.toString(last.getRank()));
+    }
+
+    public ClienteCursor decode(String cursor, ClienteSortField sortField, Sort.Direction direction) {
+        return decode(cursor, sortField.name(), direction, sortField::parse);
+    }
+
+    public ClienteCursor decodeRelevance(String cursor) {
+        return decode(cursor, RELEVANCE, Sort.Direction.DESC, Float::parseFloat);
+    }
+
+    private String encode(String sortKey, Sort.Direction direction, UUID id, String value) {
+        String raw = String.join(SEPARATOR, sortKey, direction.name(), id.toString(), value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private ClienteCursor decode(String cursor, String sortKey, Sort.Direction direction, 
+                                 Function<String, Object> valueParser) {
+        String[] parts;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            parts = raw.split("\\" + SEPARATOR, 4);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException(cursor);
+        }
+
+        if (parts.length != 4 || !parts[0].equals(sortKey) || !parts[1].equals(direction.name())) {
+            throw new InvalidCursorException(cursor);
+        }
+
+        try {
+            valueParser.apply(parts[3]);
+            return ClienteCursor.builder()
+                    .id(UUID.fromString(parts[2]))
+                    .value(parts[3])
+                    .build();
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
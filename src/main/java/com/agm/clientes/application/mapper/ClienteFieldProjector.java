@@ -0,0 +1,64 @@
+package com.agm.clientes.application.mapper;
+
+import com.agm.clientes.application.dto.response.ClienteResponse;
+import com.agm.clientes.application.dto.response.PageResponse;
+import com.agm.clientes.domain.model.ClienteField;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+@Component
+public class ClienteFieldProjector {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    public boolean isFull(Set<ClienteField> fields) {
+        return fields.containsAll(ClienteField.ALL);
+    }
+
+    public Map<String, Object> project(ClienteResponse cliente, Set<ClienteField> fields) {
+        Map<String, Object> projected = new LinkedHashMap<>();
+        for (ClienteField field : ClienteField.values()) {
+            if (fields.contains(field)) {
+                projected.put(field.getProperty(), valueOf(cliente, field));
+            }
+        }
+        return projected;
+    }
+
+    public PageResponse<Map<String, Object>> project(PageResponse<ClienteResponse> page, Set<ClienteField> fields) {
+        return PageResponse.<Map<String, Object>>builder()
+                .content(page.getContent().stream().map(cliente -> project(cliente, fields)).toList())
+                .page(page.getPage())
+                .size(page.getSize())
+                .totalElements(page.getTotalElements())
+                .totalPages(page.getTotalPages())
+                .countMode(page.getCountMode())
+                .first(page.isFirst())
+                .last(page.isLast())
+                .hasNext(page.isHasNext())
+                .nextCursor(page.getNextCursor())
+                .build();
+    }
+
+    private Object valueOf(ClienteResponse cliente, ClienteField field) {
+        return switch (field) {
+            case ID -> cliente.getId();
+            case NOMBRE -> cliente.getNombre();
+            case EMAIL -> cliente.getEmail();
+            case TELEFONO -> cliente.getTelefono();
+            case ACTIVO -> cliente.getActivo();
+            case CREATED_AT -> format(cliente.getCreatedAt());
+            case UPDATED_AT -> format(cliente.getUpdatedAt());
+            case VERSION -> cliente.getVersion();
+        };
+    }
+
+    private String format(LocalDateTime value) {
+        return value == null ? null : DATE_FORMAT.format(value);
+    }
+}
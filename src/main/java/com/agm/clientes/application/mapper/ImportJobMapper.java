@@ -0,0 +1,11 @@
+package com.agm.clientes.application.mapper;
+
+import com.agm.clientes.application.dto.response.ImportJobResponse;
+import com.agm.clientes.domain.model.ImportJob;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface ImportJobMapper {
+
+    ImportJobResponse toResponse(ImportJob job);
+}
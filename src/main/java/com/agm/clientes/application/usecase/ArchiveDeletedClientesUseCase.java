@@ -0,0 +1,44 @@
+package com.agm.clientes.application.usecase;
+
+import com.agm.clientes.domain.port.out.ClienteRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ArchiveDeletedClientesUseCase {
+
+    private final ClienteRepositoryPort clienteRepository;
+
+    @Value("${archive.retention:P30D}")
+    private Duration retention = Duration.ofDays(30);
+
+    @Value("${archive.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${archive.pause:200ms}")
+    private Duration pause = Duration.ofMillis(200);
+
+    @Value("${archive.max-batches:1000}")
+    private int maxBatches = 1000;
+
+    public Mono<Long> execute() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        log.info("Archivando clientes eliminados antes de {} en lotes de {}", cutoff, batchSize);
+
+        return clienteRepository.archiveDeleted(cutoff, batchSize)
+                .expand(moved -> moved < batchSize
+                        ? Mono.empty()
+                        : Mono.defer(() -> clienteRepository.archiveDeleted(cutoff, batchSize)).delaySubscription(pause))
+                .take(maxBatches)
+                .reduce(0L, Long::sum)
+                .doOnSuccess(total -> log.info("Archivado finalizado - clientes movidos: {}", total));
+    }
+}
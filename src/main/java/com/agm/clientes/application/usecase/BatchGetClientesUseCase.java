@@ -0,0 +1,145 @@
+package com.agm.clientes.application.usecase;
+
+import com.agm.clientes.application.config.ClienteCacheProperties;
+import com.agm.clientes.application.dto.response.ClienteBatchGetResponse;
+import com.agm.clientes.application.dto.response.ClienteResponse;
+import com.agm.clientes.application.mapper.ClienteMapper;
+import com.agm.clientes.domain.model.CacheLookup;
+import com.agm.clientes.domain.model.Cliente;
+import com.agm.clientes.domain.port.out.CacheMaintenancePort;
+import com.agm.clientes.domain.port.out.CachePort;
+import com.agm.clientes.domain.port.out.ClienteRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchGetClientesUseCase {
+
+    private final ClienteRepositoryPort clienteRepository;
+    private final CachePort cachePort;
+    private final CacheMaintenancePort cacheMaintenance;
+    private final ClienteMapper clienteMapper;
+    private final ClienteCacheProperties cacheProperties;
+
+    public Mono<ClienteBatchGetResponse> execute(List<UUID> requestedIds) {
+        List<UUID> ids = List.copyOf(new LinkedHashSet<>(requestedIds));
+        List<String> keys = ids.stream().map(id -> "cliente:" + id).toList();
+
+        log.info("Consultando {} clientes por lote", ids.size());
+
+        return cachePort.lookupAll(keys, Cliente.class)
+                .flatMap(cached -> {
+                    List<UUID> misses = ids.stream()
+                            .filter(id -> !cached.containsKey("cliente:" + id))
+                            .toList();
+
+                    log.debug("Consulta por lote: {} en cache, {} en base de datos", cached.size(), misses.size());
+                    refreshDue(ids, cached);
+
+                    return load(misses).map(loaded -> {
+                        Map<String, CacheLookup<Cliente>> lookups = new HashMap<>(cached);
+                        lookups.putAll(loaded);
+                        return buildResponse(ids, lookups);
+                    });
+                });
+    }
+
+    private void refreshDue(List<UUID> ids, Map<String, CacheLookup<Cliente>> cached) {
+        long now = System.currentTimeMillis();
+        List<UUID> due = ids.stream()
+                .filter(id -> {
+                    CacheLookup<Cliente> lookup = cached.get("cliente:" + id);
+                    return lookup != null && lookup.shouldRefresh(now, cacheProperties.getRefreshBeta(),
+                            1.0 - ThreadLocalRandom.current().nextDouble());
+                })
+                .toList();
+
+        if (due.isEmpty()) {
+            return;
+        }
+
+        log.debug("Refrescando en segundo plano {} clientes del lote", due.size());
+        load(due).subscribe(refreshed -> log.debug("{} clientes del lote refrescados en cache", refreshed.size()),
+                error -> log.warn("No se pudieron refrescar clientes del lote, se mantienen los valores en cache: {}",
+                        error.getMessage()));
+    }
+
+    private Mono<Map<String, CacheLookup<Cliente>>> load(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+
+        return Mono.defer(() -> {
+            long start = System.currentTimeMillis();
+
+            return clienteRepository.findAllById(ids)
+                    .collectList()
+                    .flatMap(clientes -> {
+                        Duration loadTime = Duration.ofMillis(System.currentTimeMillis() - start);
+                        Map<String, CacheLookup<Cliente>> loaded = new HashMap<>();
+                        List<Mono<Void>> backfill = new ArrayList<>();
+
+                        for (Cliente cliente : clientes) {
+                            String key = "cliente:" + cliente.getId();
+                            if (cliente.isDeleted()) {
+                                loaded.put(key, CacheLookup.deleted());
+                                backfill.add(cacheMaintenance.markDeleted(key, cacheProperties.getTtl()));
+                            } else {
+                                loaded.put(key, CacheLookup.hit(cliente));
+                                backfill.add(cacheMaintenance.write(key, cliente, cliente.getVersion(),
+                                        cacheProperties.getTtl(), cacheProperties.getHardTtl(), loadTime));
+                            }
+                        }
+
+                        for (UUID id : ids) {
+                            String key = "cliente:" + id;
+                            if (!loaded.containsKey(key)) {
+                                loaded.put(key, CacheLookup.notFound());
+                                backfill.add(cacheMaintenance.markNotFound(key, cacheProperties.getNegativeTtl()));
+                            }
+                        }
+
+                        return Mono.when(backfill).thenReturn(loaded);
+                    });
+        });
+    }
+
+    private ClienteBatchGetResponse buildResponse(List<UUID> ids, Map<String, CacheLookup<Cliente>> lookups) {
+        List<ClienteResponse> clientes = new ArrayList<>();
+        List<UUID> notFound = new ArrayList<>();
+        List<UUID> deleted = new ArrayList<>();
+
+        for (UUID id : ids) {
+            CacheLookup<Cliente> lookup = lookups.get("cliente:" + id);
+            if (lookup == null || lookup.getState() == CacheLookup.State.NOT_FOUND) {
+                notFound.add(id);
+            } else if (lookup.getState() == CacheLookup.State.DELETED || lookup.getValue().isDeleted()) {
+                deleted.add(id);
+            } else {
+                clientes.add(clienteMapper.toResponse(lookup.getValue()));
+            }
+        }
+
+        log.info("Consulta por lote resuelta: {} encontrados, {} inexistentes, {} eliminados",
+                clientes.size(), notFound.size(), deleted.size());
+
+        return ClienteBatchGetResponse.builder()
+                .clientes(clientes)
+                .notFound(notFound)
+                .deleted(deleted)
+                .build();
+    }
+}
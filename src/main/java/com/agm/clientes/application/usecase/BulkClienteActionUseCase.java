@@ -0,0 +1,59 @@
+package com.agm.clientes.application.usecase;
+
+import com.agm.clientes.application.dto.request.ClienteBulkActionRequest;
+import com.agm.clientes.application.dto.request.ClienteFilterRequest;
+import com.agm.clientes.application.dto.response.BulkActionResponse;
+import com.agm.clientes.domain.model.ClienteVersion;
+import com.agm.clientes.domain.port.out.CacheMaintenancePort;
+import com.agm.clientes.domain.port.out.ClienteRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkClienteActionUseCase {
+
+    private final ClienteRepositoryPort clienteRepository;
+    private final CacheMaintenancePort cacheMaintenance;
+
+    public Mono<BulkActionResponse> execute(ClienteBulkActionRequest request) {
+        boolean byIds = request.getIds() != null && !request.getIds().isEmpty();
+        ClienteFilterRequest filter = byIds ? null : request.getFilter();
+
+        log.info("Ejecutando acción masiva {} sobre {}", request.getAction(), 
+                byIds ? request.getIds().size() + " ids" : "filtro " + filter);
+
+        Flux<ClienteVersion> affected = byIds
+                ? clienteRepository.bulkUpdate(request.getAction(), List.copyOf(request.getIds()), null, null)
+                : clienteRepository.bulkUpdate(request.getAction(), null, filter.getActivo(), filter.getQ());
+
+        return affected.collectList()
+                .flatMap(clientes -> invalidateCache(clientes)
+                        .thenReturn(BulkActionResponse.builder()
+                                .action(request.getAction())
+                                .affected(clientes.size())
+                                .clientes(clientes)
+                                .build()))
+                .doOnSuccess(result -> log.info("Acción masiva {} aplicada a {} clientes", 
+                        result.getAction(), result.getAffected()));
+    }
+
+    private Mono<Void> invalidateCache(List<ClienteVersion> clientes) {
+        if (clientes.isEmpty()) {
+            return Mono.empty();
+        }
+
+        List<String> keys = clientes.stream()
+                .map(cliente -> "cliente:" + cliente.getId())
+                .toList();
+
+        return cacheMaintenance.evict(keys)
+                .then(cacheMaintenance.bumpGeneration("clientes:list"));
+    }
+}
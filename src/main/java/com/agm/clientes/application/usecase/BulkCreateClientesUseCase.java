@@ -0,0 +1,152 @@
+package com.agm.clientes.application.usecase;
+
+import com.agm.clientes.application.dto.request.ClienteCreateRequest;
+import com.agm.clientes.application.dto.response.BulkCreateItemResult;
+import com.agm.clientes.application.dto.response.BulkCreateResponse;
+import com.agm.clientes.application.dto.response.BulkItemStatus;
+import com.agm.clientes.application.mapper.ClienteMapper;
+import com.agm.clientes.domain.model.Cliente;
+import com.agm.clientes.domain.model.ReadConsistency;
+import com.agm.clientes.domain.port.out.CacheMaintenancePort;
+import com.agm.clientes.domain.port.out.ClienteRepositoryPort;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkCreateClientesUseCase {
+
+    private final ClienteRepositoryPort clienteRepository;
+    private final CacheMaintenancePort cacheMaintenance;
+    private final ClienteMapper clienteMapper;
+    private final Validator validator;
+
+    @Value("${bulk.batch-size:1000}")
+    private int batchSize = 1000;
+
+    @Value("${bulk.max-reported-failures:1000}")
+    private int maxReportedFailures = 1000;
+
+    public Mono<BulkCreateResponse> execute(Flux<ClienteCreateRequest> requests) {
+        log.info("Iniciando creación masiva de clientes con lotes de {}", batchSize);
+
+        return requests.index()
+                .buffer(batchSize)
+                .concatMap(this::processBatch)
+                .reduceWith(() -> BulkCreateResponse.builder().failures(new ArrayList<>()).build(), this::accumulate)
+                .doOnSuccess(result -> log.info("Creación masiva finalizada - total: {}, creados: {}, duplicados: {}, inválidos: {}",
+                        result.getTotal(), result.getCreated(), result.getDuplicates(), result.getInvalid()));
+    }
+
+    private Flux<BulkCreateItemResult> processBatch(List<Tuple2<Long, ClienteCreateRequest>> batch) {
+        BulkCreateItemResult[] results = new BulkCreateItemResult[batch.size()];
+        Map<String, Integer> candidates = new LinkedHashMap<>();
+
+        for (int position = 0; position < batch.size(); position++) {
+            long index = batch.get(position).getT1();
+            ClienteCreateRequest request = batch.get(position).getT2();
+            Set<ConstraintViolation<ClienteCreateRequest>> violations = validator.validate(request);
+
+            if (!violations.isEmpty()) {
+                results[position] = result(index, BulkItemStatus.INVALID, null, request.getEmail(), describe(violations));
+                continue;
+            }
+
+            String email = request.getEmail().toLowerCase(Locale.ROOT);
+            if (candidates.putIfAbsent(email, position) != null) {
+                results[position] = result(index, BulkItemStatus.DUPLICATE, null, request.getEmail(),
+                        "Email repetido dentro de la misma carga");
+            }
+        }
+
+        if (candidates.isEmpty()) {
+            return Flux.fromArray(results);
+        }
+
+        return clienteRepository.findExistingEmails(candidates.keySet())
+                .contextWrite(context -> context.put(ReadConsistency.CONTEXT_KEY, ReadConsistency.PRIMARY))
+                .collect(Collectors.toSet())
+                .flatMap(existing -> {
+                    Map<UUID, Integer> pending = new HashMap<>();
+                    List<Cliente> toInsert = new ArrayList<>();
+
+                    candidates.forEach((email, position) -> {
+                        ClienteCreateRequest request = batch.get(position).getT2();
+                        if (existing.contains(email)) {
+                            results[position] = duplicate(batch.get(position).getT1(), request.getEmail());
+                            return;
+                        }
+                        Cliente cliente = clienteMapper.toEntity(request);
+                        cliente.setId(UUID.randomUUID());
+                        cliente.setCreatedAt(LocalDateTime.now());
+                        cliente.setUpdatedAt(cliente.getCreatedAt());
+                        pending.put(cliente.getId(), position);
+                        toInsert.add(cliente);
+                    });
+
+                    if (toInsert.isEmpty()) {
+                        return Mono.just(results);
+                    }
+
+                    return clienteRepository.insertAll(toInsert)
+                            .doOnNext(saved -> {
+                                int position = pending.remove(saved.getId());
+                                results[position] = result(batch.get(position).getT1(), BulkItemStatus.CREATED,
+                                        saved.getId(), saved.getEmail(), null);
+                            })
+                            .then(Mono.fromRunnable(() -> pending.values().forEach(position ->
+                                    results[position] = duplicate(batch.get(position).getT1(),
+                                            batch.get(position).getT2().getEmail()))))
+                            .then(cacheMaintenance.bumpGeneration("clientes:list"))
+                            .thenReturn(results);
+                })
+                .flatMapMany(Flux::fromArray);
+    }
+
+    private BulkCreateResponse accumulate(BulkCreateResponse response, BulkCreateItemResult result) {
+        response.setTotal(response.getTotal() + 1);
+        switch (result.getStatus()) {
+            case CREATED -> response.setCreated(response.getCreated() + 1);
+            case DUPLICATE -> response.setDuplicates(response.getDuplicates() + 1);
+            case INVALID -> response.setInvalid(response.getInvalid() + 1);
+        }
+
+        if (result.getStatus() != BulkItemStatus.CREATED && response.getFailures().size() < maxReportedFailures) {
+            response.getFailures().add(result);
+        }
+        return response;
+    }
+
+    private BulkCreateItemResult duplicate(long index, String email) {
+        return result(index, BulkItemStatus.DUPLICATE, null, email, String.format("El email %s ya está registrado", email));
+    }
+
+    private BulkCreateItemResult result(long index, BulkItemStatus status, UUID id, String email, String message) {
+        return BulkCreateItemResult.builder()
+                .index(index)
+                .status(status)
+                .id(id)
+                .email(email)
+                .message(message)
+                .build();
+    }
+
+    private String describe(Set<ConstraintViolation<ClienteCreateRequest>> violations) {
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+}
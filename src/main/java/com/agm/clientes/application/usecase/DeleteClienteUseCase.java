@@ -1,7 +1,8 @@
 package com.agm.clientes.application.usecase;
 
+import com.agm.clientes.application.config.ClienteCacheProperties;
 import com.agm.clientes.domain.exception.ClienteNotFoundException;
-import com.agm.clientes.domain.port.out.CachePort;
+import com.agm.clientes.domain.port.out.CacheMaintenancePort;
 import com.agm.clientes.domain.port.out.ClienteRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,20 +17,20 @@ import java.util.UUID;
 public class DeleteClienteUseCase {
 
     private final ClienteRepositoryPort clienteRepository;
-    private final CachePort cachePort;
+    private final CacheMaintenancePort cacheMaintenance;
+    private final ClienteCacheProperties cacheProperties;
 
     public Mono<Void> execute(UUID id) {
         log.info("Eliminando lógicamente cliente con ID: {}", id);
 
-        return clienteRepository.findById(id)
-                .switchIfEmpty(Mono.error(new ClienteNotFoundException(id)))
-                .flatMap(cliente -> {
-                    cliente.markAsDeleted();
-                    return clienteRepository.save(cliente);
-                })
-                .doOnSuccess(deleted -> log.info("Cliente eliminado lógicamente: {}", id))
-                .flatMap(deleted -> cachePort.delete("cliente:" + id)
-                        .then(cachePort.deleteByPattern("clientes:list:*")))
+        return clienteRepository.softDelete(id)
+                .doOnNext(deleted -> log.info("Cliente eliminado lógicamente: {}", id))
+                .switchIfEmpty(Mono.defer(() -> clienteRepository.findState(id)
+                        .switchIfEmpty(Mono.error(new ClienteNotFoundException(id)))
+                        .doOnNext(state -> log.info("Cliente {} ya estaba eliminado", id))
+                        .then(Mono.empty())))
+                .then(Mono.defer(() -> cacheMaintenance.markDeleted("cliente:" + id, cacheProperties.getTtl())
+                        .then(cacheMaintenance.bumpGeneration("clientes:list"))))
                 .then();
     }
 }
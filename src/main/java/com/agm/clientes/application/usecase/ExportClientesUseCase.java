@@ -0,0 +1,66 @@
+package com.agm.clientes.application.usecase;
+
+import com.agm.clientes.application.dto.response.ClienteResponse;
+import com.agm.clientes.application.mapper.ClienteMapper;
+import com.agm.clientes.domain.port.out.ClienteRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportClientesUseCase {
+
+    private static final String CSV_HEADER = "id,nombre,email,telefono,activo,createdAt,updatedAt,version\n";
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private final ClienteRepositoryPort clienteRepository;
+    private final ClienteMapper clienteMapper;
+
+    public Flux<ClienteResponse> execute(Boolean activo, Boolean includeDeleted, String query) {
+        return clienteRepository.stream(activo, includeDeleted, query)
+                .map(clienteMapper::toResponse)
+                .doOnSubscribe(subscription -> log.info("Iniciando exportación de clientes - activo: {}, includeDeleted: {}, query: {}",
+                        activo, includeDeleted, query))
+                .doOnComplete(() -> log.info("Exportación de clientes finalizada"))
+                .doOnCancel(() -> log.warn("Exportación de clientes cancelada por el cliente"));
+    }
+
+    public Flux<String> executeCsv(Boolean activo, Boolean includeDeleted, String query) {
+        return Flux.concat(Flux.just(CSV_HEADER), execute(activo, includeDeleted, query).map(this::toCsvLine));
+    }
+
+    private String toCsvLine(ClienteResponse cliente) {
+        StringJoiner line = new StringJoiner(",", "", "\n");
+        line.add(Objects.toString(cliente.getId(), ""));
+        line.add(escape(cliente.getNombre()));
+        line.add(escape(cliente.getEmail()));
+        line.add(escape(cliente.getTelefono()));
+        line.add(Objects.toString(cliente.getActivo(), ""));
+        line.add(format(cliente.getCreatedAt()));
+        line.add(format(cliente.getUpdatedAt()));
+        line.add(Objects.toString(cliente.getVersion(), ""));
+        return line.toString();
+    }
+
+    private String format(LocalDateTime value) {
+        return value == null ? "" : DATE_FORMAT.format(value);
+    }
+
+    private String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
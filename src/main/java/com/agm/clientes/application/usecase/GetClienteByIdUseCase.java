@@ -1,12 +1,16 @@
 package com.agm.clientes.application.usecase;
 
+import com.agm.clientes.application.config.ClienteCacheProperties;
 import com.agm.clientes.application.dto.response.ClienteResponse;
 import com.agm.clientes.application.mapper.ClienteMapper;
 import com.agm.clientes.domain.exception.ClienteDeletedException;
 import com.agm.clientes.domain.exception.ClienteNotFoundException;
+import com.agm.clientes.domain.model.CacheLookup;
 import com.agm.clientes.domain.model.Cliente;
+import com.agm.clientes.domain.port.out.CacheMaintenancePort;
 import com.agm.clientes.domain.port.out.CachePort;
 import com.agm.clientes.domain.port.out.ClienteRepositoryPort;
+import com.agm.clientes.domain.port.out.SingleFlightPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -14,6 +18,8 @@ import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
@@ -22,28 +28,83 @@ public class GetClienteByIdUseCase {
 
     private final ClienteRepositoryPort clienteRepository;
     private final CachePort cachePort;
+    private final CacheMaintenancePort cacheMaintenance;
     private final ClienteMapper clienteMapper;
+    private final SingleFlightPort singleFlight;
+    private final ClienteCacheProperties cacheProperties;
 
     public Mono<ClienteResponse> execute(UUID id) {
         log.info("Consultando cliente con ID: {}", id);
 
         String cacheKey = "cliente:" + id;
 
-        return cachePort.get(cacheKey, Cliente.class)
-                .switchIfEmpty(Mono.defer(() -> {
-                    log.debug("Cliente no encontrado en cache, consultando base de datos");
-                    return clienteRepository.findById(id)
-                            .switchIfEmpty(Mono.error(new ClienteNotFoundException(id)))
-                            .flatMap(cliente -> cachePort.set(cacheKey, cliente, Duration.ofMinutes(5))
-                                    .thenReturn(cliente));
-                }))
-                .flatMap(cliente -> {
-                    if (cliente.isDeleted()) {
+        return cachePort.lookup(cacheKey, Cliente.class)
+                .doOnNext(lookup -> refreshIfDue(id, cacheKey, lookup))
+                .switchIfEmpty(Mono.defer(() -> singleFlight.execute(cacheKey,
+                        () -> cachePort.lookup(cacheKey, Cliente.class),
+                        () -> load(id, cacheKey))))
+                .flatMap(lookup -> {
+                    if (lookup.getState() == CacheLookup.State.NOT_FOUND) {
+                        return Mono.error(new ClienteNotFoundException(id));
+                    }
+                    if (lookup.getState() == CacheLookup.State.DELETED || lookup.getValue().isDeleted()) {
                         log.warn("Intento de acceso a cliente eliminado: {}", id);
                         return Mono.error(new ClienteDeletedException(id));
                     }
                     log.info("Cliente encontrado: {}", id);
-                    return Mono.just(clienteMapper.toResponse(cliente));
+                    return Mono.just(clienteMapper.toResponse(lookup.getValue()));
+                });
+    }
+
+    private void refreshIfDue(UUID id, String cacheKey, CacheLookup<Cliente> current) {
+        long now = System.currentTimeMillis();
+        double draw = 1.0 - ThreadLocalRandom.current().nextDouble();
+        if (!current.shouldRefresh(now, cacheProperties.getRefreshBeta(), draw)) {
+            return;
+        }
+
+        log.debug("Refrescando en segundo plano cliente {} (obsoleto: {})", id, current.isStale(now));
+        singleFlight.execute(cacheKey,
+                        () -> cachePort.lookup(cacheKey, Cliente.class)
+                                .filter(lookup -> lookup.getSoftExpiresAt() > current.getSoftExpiresAt()),
+                        () -> load(id, cacheKey))
+                .subscribe(refreshed -> log.debug("Cliente {} refrescado en cache", id),
+                        error -> log.warn("No se pudo refrescar cliente {}, se mantiene el valor en cache: {}",
+                                id, error.getMessage()));
+    }
+
+    private Mono<CacheLookup<Cliente>> load(UUID id, String cacheKey) {
+        log.debug("Cliente no encontrado en cache, consultando base de datos");
+
+        return Mono.defer(() -> {
+            long start = System.currentTimeMillis();
+
+            return clienteRepository.findById(id)
+                    .flatMap(cliente -> cliente.isDeleted()
+                            ? fill(cachePort.setDeleted(cacheKey, cacheProperties.getTtl()),
+                                    () -> cacheMaintenance.markDeleted(cacheKey, cacheProperties.getTtl()))
+                                    .thenReturn(CacheLookup.<Cliente>deleted())
+                            : writeThrough(cacheKey, cliente, Duration.ofMillis(System.currentTimeMillis() - start))
+                                    .thenReturn(CacheLookup.hit(cliente)))
+                    .switchIfEmpty(Mono.defer(() -> fill(
+                            cachePort.setNotFound(cacheKey, cacheProperties.getNegativeTtl()),
+                            () -> cacheMaintenance.markNotFound(cacheKey, cacheProperties.getNegativeTtl()))
+                            .thenReturn(CacheLookup.notFound())));
+        });
+    }
+
+    private Mono<Void> writeThrough(String cacheKey, Cliente cliente, Duration loadTime) {
+        return fill(cachePort.setIfNewer(cacheKey, cliente, cliente.getVersion(), cacheProperties.getTtl(),
+                        cacheProperties.getHardTtl(), loadTime),
+                () -> cacheMaintenance.write(cacheKey, cliente, cliente.getVersion(), cacheProperties.getTtl(),
+                        cacheProperties.getHardTtl(), loadTime));
+    }
+
+    private Mono<Void> fill(Mono<Boolean> write, Supplier<Mono<Void>> fallback) {
+        return write.then()
+                .onErrorResume(e -> {
+                    log.warn("No se pudo escribir en cache dentro del single-flight, se encola: {}", e.getMessage());
+                    return fallback.get();
                 });
     }
 }
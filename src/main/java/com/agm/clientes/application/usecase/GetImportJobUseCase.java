@@ -0,0 +1,36 @@
+package com.agm.clientes.application.usecase;
+
+import com.agm.clientes.application.dto.response.ImportJobResponse;
+import com.agm.clientes.application.mapper.ImportJobMapper;
+import com.agm.clientes.domain.exception.ImportJobNotFoundException;
+import com.agm.clientes.domain.port.out.ImportJobRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GetImportJobUseCase {
+
+    private final ImportJobRepositoryPort importJobRepository;
+    private final ImportJobMapper importJobMapper;
+
+    public Mono<ImportJobResponse> execute(UUID id) {
+        log.info("Consultando importación con ID: {}", id);
+
+        return importJobRepository.findById(id)
+                .switchIfEmpty(Mono.error(new ImportJobNotFoundException(id)))
+                .map(importJobMapper::toResponse);
+    }
+
+    public Mono<List<ImportJobResponse>> list() {
+        return importJobRepository.findAll()
+                .map(importJobMapper::toResponse)
+                .collectList();
+    }
+}
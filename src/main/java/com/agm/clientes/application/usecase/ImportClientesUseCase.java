@@ -0,0 +1,144 @@
+package com.agm.clientes.application.usecase;
+
+import com.agm.clientes.application.dto.request.ClienteCreateRequest;
+import com.agm.clientes.application.dto.response.ImportJobResponse;
+import com.agm.clientes.application.mapper.ClienteMapper;
+import com.agm.clientes.application.mapper.ImportJobMapper;
+import com.agm.clientes.domain.model.Cliente;
+import com.agm.clientes.domain.model.ImportJob;
+import com.agm.clientes.domain.model.ImportJobProgress;
+import com.agm.clientes.domain.port.out.CacheMaintenancePort;
+import com.agm.clientes.domain.port.out.ClienteImportPort;
+import com.agm.clientes.domain.port.out.ImportJobRepositoryPort;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImportClientesUseCase {
+
+    private final ClienteImportPort clienteImportPort;
+    private final ImportJobRepositoryPort importJobRepository;
+    private final ImportJobSupervisor importJobSupervisor;
+    private final CacheMaintenancePort cacheMaintenance;
+    private final ClienteMapper clienteMapper;
+    private final ImportJobMapper importJobMapper;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @Value("${imports.max-reported-errors:100}")
+    private int maxReportedErrors = 100;
+
+    public Mono<ImportJobResponse> execute(Flux<String> lines) {
+        ImportJobProgress progress = new ImportJobProgress(UUID.randomUUID(), maxReportedErrors);
+        UUID jobId = progress.getId();
+
+        log.info("Iniciando importación de clientes {}", jobId);
+
+        Flux<Cliente> clientes = lines.index()
+                .filter(line -> !line.getT2().isBlank())
+                .handle((line, sink) -> {
+                    progress.received();
+                    Cliente cliente = parse(progress, line.getT1() + 1, line.getT2().strip());
+                    if (cliente != null) {
+                        sink.next(cliente);
+                    }
+                });
+
+        return importJobRepository.save(progress.snapshot())
+                .then(Mono.defer(() -> {
+                    progress.copying();
+                    return importJobRepository.save(progress.snapshot());
+                }))
+                .then(clienteImportPort.copyToStaging(jobId, clientes))
+                .flatMap(staged -> {
+                    progress.staged(staged);
+                    log.info("Importación {} - {} filas copiadas a staging, iniciando merge en segundo plano",
+                            jobId, staged);
+                    return importJobRepository.save(progress.snapshot());
+                })
+                .map(importJobMapper::toResponse)
+                .doOnSuccess(accepted -> merge(progress))
+                .onErrorResume(error -> {
+                    log.error("Importación {} fallida durante la copia a staging", jobId, error);
+                    progress.failed(error.getMessage());
+                    return clienteImportPort.clearStaging(jobId)
+                            .then(importJobRepository.save(progress.snapshot()))
+                            .map(importJobMapper::toResponse);
+                })
+                .doOnCancel(() -> {
+                    if (progress.failed("Importación cancelada antes de finalizar")) {
+                        importJobSupervisor.submit(progress, clienteImportPort.clearStaging(jobId)
+                                .then(Mono.defer(() -> importJobRepository.save(progress.snapshot()))));
+                    }
+                });
+    }
+
+    private void merge(ImportJobProgress progress) {
+        importJobSupervisor.submit(progress, Mono.usingWhen(
+                Mono.just(progress.getId()),
+                jobId -> run(progress),
+                clienteImportPort::clearStaging,
+                (jobId, error) -> clienteImportPort.clearStaging(jobId),
+                clienteImportPort::clearStaging));
+    }
+
+    private Mono<ImportJob> run(ImportJobProgress progress) {
+        return clienteImportPort.mergeStaging(progress.getId())
+                .flatMap(inserted -> progress.completed(inserted) && inserted > 0
+                        ? cacheMaintenance.bumpGeneration("clientes:list")
+                        : Mono.<Void>empty())
+                .onErrorResume(error -> {
+                    log.error("Importación {} fallida", progress.getId(), error);
+                    progress.failed(error.getMessage());
+                    return Mono.empty();
+                })
+                .then(Mono.defer(() -> importJobRepository.save(progress.snapshot())))
+                .doOnSuccess(result -> log.info("Importación {} finalizada - estado: {}, recibidos: {}, insertados: {}, duplicados: {}, inválidos: {}",
+                        result.getId(), result.getStatus(), result.getReceived(), result.getInserted(),
+                        result.getDuplicates(), result.getInvalid()));
+    }
+
+    private Cliente parse(ImportJobProgress progress, long lineNumber, String line) {
+        ClienteCreateRequest request;
+        try {
+            request = objectMapper.readValue(line, ClienteCreateRequest.class);
+        } catch (JsonProcessingException e) {
+            progress.rejected(lineNumber, "JSON inválido");
+            return null;
+        }
+
+        if (request == null) {
+            progress.rejected(lineNumber, "JSON inválido");
+            return null;
+        }
+
+        Set<ConstraintViolation<ClienteCreateRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            progress.rejected(lineNumber, describe(violations));
+            return null;
+        }
+
+        return clienteMapper.toEntity(request);
+    }
+
+    private String describe(Set<ConstraintViolation<ClienteCreateRequest>> violations) {
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+}
@@ -0,0 +1,76 @@
+package com.agm.clientes.application.usecase;
+
+import com.agm.clientes.domain.model.ImportJobProgress;
+import com.agm.clientes.domain.port.out.ClienteImportPort;
+import com.agm.clientes.domain.port.out.ImportJobRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImportJobSupervisor implements DisposableBean {
+
+    private record Tracked(ImportJobProgress progress, Disposable.Swap subscription) {
+    }
+
+    private final ClienteImportPort clienteImportPort;
+    private final ImportJobRepositoryPort importJobRepository;
+    private final Map<UUID, Tracked> running = new ConcurrentHashMap<>();
+
+    @Value("${imports.shutdown-timeout:10s}")
+    private Duration shutdownTimeout = Duration.ofSeconds(10);
+
+    public void submit(ImportJobProgress progress, Mono<?> work) {
+        Tracked tracked = new Tracked(progress, Disposables.swap());
+        running.put(progress.getId(), tracked);
+        tracked.subscription().update(work
+                .doFinally(signal -> running.remove(progress.getId(), tracked))
+                .subscribe(result -> log.debug("Importación {} procesada en segundo plano", progress.getId()),
+                        error -> log.error("Importación {} terminó con error en segundo plano",
+                                progress.getId(), error)));
+    }
+
+    public int running() {
+        return running.size();
+    }
+
+    @Override
+    public void destroy() {
+        List<Tracked> interrupted = List.copyOf(running.values());
+        if (interrupted.isEmpty()) {
+            return;
+        }
+
+        log.warn("Interrumpiendo {} importaciones en curso por apagado del servicio", interrupted.size());
+        interrupted.forEach(tracked -> {
+            tracked.subscription().dispose();
+            tracked.progress().failed("Importación interrumpida por apagado del servicio");
+        });
+
+        try {
+            Flux.fromIterable(interrupted)
+                    .flatMap(tracked -> clienteImportPort.clearStaging(tracked.progress().getId())
+                            .onErrorResume(error -> Mono.empty())
+                            .then(importJobRepository.save(tracked.progress().snapshot())))
+                    .then()
+                    .block(shutdownTimeout);
+        } catch (RuntimeException e) {
+            log.warn("No se pudo registrar el fallo de todas las importaciones interrumpidas: {}", e.getMessage());
+        }
+        running.clear();
+    }
+}
@@ -1,18 +1,36 @@
 package com.agm.clientes.application.usecase;
 
+import com.agm.clientes.application.config.ClienteCacheProperties;
+import com.agm.clientes.application.dto.cache.ClientePageCacheEntry;
 import com.agm.clientes.application.dto.response.ClienteResponse;
 import com.agm.clientes.application.dto.response.PageResponse;
+import com.agm.clientes.application.mapper.ClienteCursorCodec;
 import com.agm.clientes.application.mapper.ClienteMapper;
+import com.agm.clientes.domain.exception.InvalidSortException;
 import com.agm.clientes.domain.model.Cliente;
+import com.agm.clientes.domain.model.ClienteCursor;
+import com.agm.clientes.domain.model.ClienteField;
+import com.agm.clientes.domain.model.ClienteSortField;
+import com.agm.clientes.domain.model.CountMode;
+import com.agm.clientes.domain.model.ReadConsistency;
+import com.agm.clientes.domain.port.out.CacheMaintenancePort;
 import com.agm.clientes.domain.port.out.CachePort;
 import com.agm.clientes.domain.port.out.ClienteRepositoryPort;
+import com.agm.clientes.domain.port.out.SingleFlightPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
-import java.time.Duration;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -21,33 +39,172 @@ public class ListClientesUseCase {
 
     private final ClienteRepositoryPort clienteRepository;
     private final CachePort cachePort;
+    private final CacheMaintenancePort cacheMaintenance;
     private final ClienteMapper clienteMapper;
+    private final ClienteCursorCodec cursorCodec;
+    private final SingleFlightPort singleFlight;
+    private final ClienteCacheProperties cacheProperties;
 
     public Mono<PageResponse<ClienteResponse>> execute(Boolean activo, Boolean includeDeleted, String query, 
-                                                        int page, int size, String sortBy, String sortDirection) {
-        log.info("Listando clientes - activo: {}, includeDeleted: {}, query: {}, page: {}, size: {}", 
-                activo, includeDeleted, query, page, size);
-
-        return clienteRepository.findAll(activo, includeDeleted, query, page, size, sortBy, sortDirection)
-                .map(clienteMapper::toResponse)
-                .collectList()
-                .zipWith(clienteRepository.count(activo, includeDeleted, query))
-                .map(tuple -> buildPageResponse(tuple.getT1(), tuple.getT2(), page, size))
-                .doOnSuccess(result -> log.info("Clientes listados exitosamente: {} elementos", result.getTotalElements()));
-    }
-
-    private PageResponse<ClienteResponse> buildPageResponse(List<ClienteResponse> content, Long totalElements, 
-                                                             int page, int size) {
-        int totalPages = (int) Math.ceil((double) totalElements / size);
-        
+                                                        int page, int size, String sortBy, String sortDirection,
+                                                        CountMode countMode, Set<ClienteField> fields) {
+        log.info("Listando clientes - activo: {}, includeDeleted: {}, query: {}, page: {}, size: {}, countMode: {}", 
+                activo, includeDeleted, query, page, size, countMode);
+
+        String position = "page=" + page;
+
+        return Mono.fromCallable(() -> resolveSort(sortBy, query))
+                .flatMap(sort -> cached(activo, includeDeleted, query, position, size, sort, sortDirection,
+                        countMode, fields,
+                        () -> clienteRepository.findAll(activo, includeDeleted, query, (long) page * size, size + 1,
+                                        sortBy, sortDirection, fields)
+                                .collectList()
+                                .zipWith(countTotal(countMode, activo, includeDeleted, query))
+                                .map(tuple -> {
+                                    List<Cliente> rows = tuple.getT1();
+                                    boolean hasNext = rows.size() > size;
+                                    return toEntry(hasNext ? rows.subList(0, size) : rows, tuple.getT2(), hasNext,
+                                            null);
+                                })))
+                .map(entry -> buildPageResponse(entry, countMode, page, page == 0, size))
+                .doOnSuccess(result -> log.info("Clientes listados exitosamente: {} elementos", result.getContent().size()));
+    }
+
+    public Mono<PageResponse<ClienteResponse>> executeWithCursor(Boolean activo, Boolean includeDeleted, String query,
+                                                                  String cursor, int size, String sortBy, 
+                                                                  String sortDirection, CountMode countMode,
+                                                                  Set<ClienteField> fields) {
+        log.info("Listando clientes por cursor - activo: {}, includeDeleted: {}, query: {}, size: {}, countMode: {}", 
+                activo, includeDeleted, query, size, countMode);
+
+        Sort.Direction direction = Sort.Direction.fromOptionalString(sortDirection).orElse(Sort.Direction.DESC);
+
+        boolean first = cursor == null || cursor.isBlank();
+        String position = first ? "cursor=" : "cursor=" + cursor;
+
+        return Mono.defer(() -> {
+            if (ClienteSortField.isRelevance(sortBy)) {
+                return Mono.error(new InvalidSortException(sortBy));
+            }
+            ClienteSortField sortField = ClienteSortField.from(sortBy);
+            ClienteCursor after = first ? null : cursorCodec.decode(cursor, sortField, direction);
+
+            return cached(activo, includeDeleted, query, position, size, sortField.getProperty(), direction.name(),
+                    countMode, fields,
+                    () -> clienteRepository.findAllAfter(activo, includeDeleted, query, after, size + 1, 
+                                    sortField.getProperty(), direction.name(), fields)
+                            .collectList()
+                            .zipWith(countTotal(countMode, activo, includeDeleted, query))
+                            .map(tuple -> {
+                                List<Cliente> rows = tuple.getT1();
+                                boolean hasNext = rows.size() > size;
+                                List<Cliente> pageRows = hasNext ? rows.subList(0, size) : rows;
+                                String nextCursor = hasNext 
+                                        ? cursorCodec.encode(pageRows.get(pageRows.size() - 1), sortField, direction) 
+                                        : null;
+                                return toEntry(pageRows, tuple.getT2(), hasNext, nextCursor);
+                            }));
+        }).map(entry -> buildPageResponse(entry, countMode, null, first, size))
+                .doOnSuccess(result -> log.info("Clientes listados exitosamente: {} elementos", result.getContent().size()));
+    }
+
+    private String resolveSort(String sortBy, String query) {
+        if (!ClienteSortField.isRelevance(sortBy)) {
+            return ClienteSortField.from(sortBy).getProperty();
+        }
+        if (!hasText(query)) {
+            throw new InvalidSortException(sortBy);
+        }
+        return ClienteSortField.RELEVANCE;
+    }
+
+    private Mono<Optional<Long>> countTotal(CountMode countMode, Boolean activo, Boolean includeDeleted, String query) {
+        return switch (countMode) {
+            case EXACT -> clienteRepository.count(activo, includeDeleted, query).map(Optional::of);
+            case ESTIMATED -> clienteRepository.estimateCount(activo, includeDeleted, query).map(Optional::of);
+            case NONE -> Mono.just(Optional.empty());
+        };
+    }
+
+    private Mono<ClientePageCacheEntry> cached(Boolean activo, Boolean includeDeleted, String query, String position,
+                                               int size, String sort, String sortDirection, CountMode countMode,
+                                               Set<ClienteField> fields, Supplier<Mono<ClientePageCacheEntry>> loader) {
+        return cachePort.generation("clientes:list")
+                .onErrorResume(e -> {
+                    log.warn("No se pudo obtener la generación de cache de listados: {}", e.getMessage());
+                    return Mono.empty();
+                })
+                .flatMap(generation -> {
+                    String key = cacheKey(generation, activo, includeDeleted, query, position, size, sort,
+                            sortDirection, countMode, fields);
+                    return cachePort.get(key, ClientePageCacheEntry.class)
+                            .doOnNext(entry -> log.debug("Página de clientes servida desde cache: {}", key))
+                            .switchIfEmpty(Mono.defer(() -> singleFlight.execute(key,
+                                    () -> cachePort.get(key, ClientePageCacheEntry.class),
+                                    () -> loader.get()
+                                            .contextWrite(context -> context.put(ReadConsistency.CONTEXT_KEY,
+                                                    ReadConsistency.PRIMARY))
+                                            .flatMap(entry -> cachePort.set(key, entry, cacheProperties.getListTtl())
+                                                    .then()
+                                                    .onErrorResume(e -> {
+                                                        log.warn("No se pudo escribir la página en cache, se encola: {}",
+                                                                e.getMessage());
+                                                        return cacheMaintenance.put(key, entry,
+                                                                cacheProperties.getListTtl());
+                                                    })
+                                                    .thenReturn(entry)))));
+                })
+                .switchIfEmpty(Mono.defer(loader));
+    }
+
+    private String cacheKey(long generation, Boolean activo, Boolean includeDeleted, String query, String position,
+                            int size, String sort, String sortDirection, CountMode countMode, Set<ClienteField> fields) {
+        Sort.Direction direction = Sort.Direction.fromOptionalString(sortDirection).orElse(Sort.Direction.DESC);
+        String q = hasText(query) ? query.trim().toLowerCase(Locale.ROOT) : "";
+        String projection = fields == null || fields.containsAll(ClienteField.ALL)
+                ? "*"
+                : fields.stream().sorted().map(ClienteField::getProperty).collect(Collectors.joining(","));
+
+        return "clientes:list:" + generation
+                + ":activo=" + (activo == null ? "*" : activo)
+                + ":deleted=" + Boolean.TRUE.equals(includeDeleted)
+                + ":q=" + URLEncoder.encode(q, StandardCharsets.UTF_8)
+                + ":" + position
+                + ":size=" + size
+                + ":sort=" + sort + "," + direction.name()
+                + ":count=" + countMode
+                + ":fields=" + projection;
+    }
+
+    private ClientePageCacheEntry toEntry(List<Cliente> rows, Optional<Long> totalElements, boolean hasNext,
+                                          String nextCursor) {
+        return ClientePageCacheEntry.builder()
+                .content(rows.stream().map(clienteMapper::toResponse).toList())
+                .totalElements(totalElements.orElse(null))
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private PageResponse<ClienteResponse> buildPageResponse(ClientePageCacheEntry entry, CountMode countMode,
+                                                             Integer page, boolean first, int size) {
+        Long totalElements = entry.getTotalElements();
+
         return PageResponse.<ClienteResponse>builder()
-                .content(content)
+                .content(entry.getContent())
                 .page(page)
                 .size(size)
                 .totalElements(totalElements)
-                .totalPages(totalPages)
-                .first(page == 0)
-                .last(page >= totalPages - 1)
+                .totalPages(totalElements == null ? null : (int) Math.ceil((double) totalElements / size))
+                .countMode(countMode)
+                .first(first)
+                .last(!entry.isHasNext())
+                .hasNext(entry.isHasNext())
+                .nextCursor(entry.getNextCursor())
                 .build();
     }
+
+    private boolean hasText(String query) {
+        return query != null && !query.isBlank();
+    }
 }
@@ -0,0 +1,62 @@
+package com.agm.clientes.application.usecase;
+
+import com.agm.clientes.application.dto.response.ClienteResponse;
+import com.agm.clientes.application.dto.response.PageResponse;
+import com.agm.clientes.application.mapper.ClienteCursorCodec;
+import com.agm.clientes.application.mapper.ClienteMapper;
+import com.agm.clientes.domain.model.ClienteCursor;
+import com.agm.clientes.domain.model.ClienteSearchHit;
+import com.agm.clientes.domain.model.CountMode;
+import com.agm.clientes.domain.port.out.ClienteRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchClientesUseCase {
+
+    private final ClienteRepositoryPort clienteRepository;
+    private final ClienteMapper clienteMapper;
+    private final ClienteCursorCodec cursorCodec;
+
+    public Mono<PageResponse<ClienteResponse>> execute(String query, Boolean activo, String cursor, int size) {
+        log.info("Buscando clientes por texto - query: {}, activo: {}, size: {}", query, activo, size);
+
+        if (query == null || query.isBlank()) {
+            return Mono.just(buildPageResponse(List.of(), true, size, false, null));
+        }
+
+        return Mono.defer(() -> {
+            ClienteCursor after = cursor == null || cursor.isBlank() ? null : cursorCodec.decodeRelevance(cursor);
+
+            return clienteRepository.search(query, activo, after, size + 1)
+                    .collectList()
+                    .map(hits -> {
+                        boolean hasNext = hits.size() > size;
+                        List<ClienteSearchHit> pageHits = hasNext ? hits.subList(0, size) : hits;
+                        String nextCursor = hasNext 
+                                ? cursorCodec.encodeRelevance(pageHits.get(pageHits.size() - 1)) 
+                                : null;
+                        return buildPageResponse(pageHits, after == null, size, hasNext, nextCursor);
+                    });
+        }).doOnSuccess(result -> log.info("Búsqueda completada: {} elementos", result.getContent().size()));
+    }
+
+    private PageResponse<ClienteResponse> buildPageResponse(List<ClienteSearchHit> hits, boolean first, int size,
+                                                             boolean hasNext, String nextCursor) {
+        return PageResponse.<ClienteResponse>builder()
+                .content(hits.stream().map(hit -> clienteMapper.toResponse(hit.getCliente())).toList())
+                .size(size)
+                .countMode(CountMode.NONE)
+                .first(first)
+                .last(!hasNext)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
+                .build();
+    }
+}
@@ -1,16 +1,20 @@
 package com.agm.clientes.application.usecase;
 
+import com.agm.clientes.application.config.ClienteCacheProperties;
 import com.agm.clientes.application.dto.response.ClienteResponse;
 import com.agm.clientes.application.mapper.ClienteMapper;
 import com.agm.clientes.domain.exception.ClienteDeletedException;
 import com.agm.clientes.domain.exception.ClienteNotFoundException;
-import com.agm.clientes.domain.port.out.CachePort;
+import com.agm.clientes.domain.exception.OptimisticLockException;
+import com.agm.clientes.domain.model.Cliente;
+import com.agm.clientes.domain.port.out.CacheMaintenancePort;
 import com.agm.clientes.domain.port.out.ClienteRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
+import java.time.Duration;
 import java.util.UUID;
 
 @Slf4j
@@ -19,32 +23,32 @@ import java.util.UUID;
 public class ToggleClienteActivoUseCase {
 
     private final ClienteRepositoryPort clienteRepository;
-    private final CachePort cachePort;
+    private final CacheMaintenancePort cacheMaintenance;
     private final ClienteMapper clienteMapper;
+    private final ClienteCacheProperties cacheProperties;
 
     public Mono<ClienteResponse> execute(UUID id, boolean value) {
         log.info("Cambiando estado activo de cliente {} a: {}", id, value);
 
-        return clienteRepository.findById(id)
+        return clienteRepository.updateActivo(id, value)
+                .switchIfEmpty(Mono.defer(() -> rejectWrite(id)))
+                .doOnSuccess(saved -> log.info("Estado activo cambiado para cliente: {}", id))
+                .flatMap(saved -> cacheMaintenance.write("cliente:" + id, saved, saved.getVersion(),
+                                cacheProperties.getTtl(), cacheProperties.getHardTtl(), Duration.ZERO)
+                        .then(cacheMaintenance.bumpGeneration("clientes:list"))
+                        .thenReturn(saved))
+                .map(clienteMapper::toResponse);
+    }
+
+    private Mono<Cliente> rejectWrite(UUID id) {
+        return clienteRepository.findState(id)
                 .switchIfEmpty(Mono.error(new ClienteNotFoundException(id)))
-                .flatMap(cliente -> {
-                    if (cliente.isDeleted()) {
+                .flatMap(state -> {
+                    if (state.isDeleted()) {
                         log.warn("Intento de cambiar estado de cliente eliminado: {}", id);
                         return Mono.error(new ClienteDeletedException(id));
                     }
-
-                    if (value) {
-                        cliente.activate();
-                    } else {
-                        cliente.deactivate();
-                    }
-
-                    return clienteRepository.save(cliente)
-                            .doOnSuccess(saved -> log.info("Estado activo cambiado para cliente: {}", id))
-                            .flatMap(saved -> cachePort.delete("cliente:" + id)
-                                    .then(cachePort.deleteByPattern("clientes:list:*"))
-                                    .thenReturn(saved))
-                            .map(clienteMapper::toResponse);
+                    return Mono.error(new OptimisticLockException());
                 });
     }
 }
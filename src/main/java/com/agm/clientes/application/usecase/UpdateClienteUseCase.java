@@ -1,5 +1,6 @@
 package com.agm.clientes.application.usecase;
 
+import com.agm.clientes.application.config.ClienteCacheProperties;
 import com.agm.clientes.application.dto.request.ClienteUpdateRequest;
 import com.agm.clientes.application.dto.response.ClienteResponse;
 import com.agm.clientes.application.mapper.ClienteMapper;
@@ -8,16 +9,15 @@ import com.agm.clientes.domain.exception.ClienteNotFoundException;
 import com.agm.clientes.domain.exception.DuplicateEmailException;
 import com.agm.clientes.domain.exception.OptimisticLockException;
 import com.agm.clientes.domain.model.Cliente;
-import com.agm.clientes.domain.port.out.CachePort;
+import com.agm.clientes.domain.port.out.CacheMaintenancePort;
 import com.agm.clientes.domain.port.out.ClienteRepositoryPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
-import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Slf4j
@@ -26,53 +26,41 @@ import java.util.UUID;
 public class UpdateClienteUseCase {
 
     private final ClienteRepositoryPort clienteRepository;
-    private final CachePort cachePort;
+    private final CacheMaintenancePort cacheMaintenance;
     private final ClienteMapper clienteMapper;
+    private final ClienteCacheProperties cacheProperties;
 
     public Mono<ClienteResponse> execute(UUID id, ClienteUpdateRequest request) {
         log.info("Actualizando cliente con ID: {}", id);
 
-        return clienteRepository.findById(id)
+        Cliente changes = clienteMapper.toEntity(request);
+        changes.setId(id);
+        changes.setVersion(request.getVersion());
+
+        return clienteRepository.updateIfCurrent(changes)
+                .onErrorMap(DuplicateKeyException.class, e -> {
+                    log.warn("Email duplicado detectado: {}", request.getEmail());
+                    return new DuplicateEmailException(request.getEmail());
+                })
+                .switchIfEmpty(Mono.defer(() -> rejectWrite(id)))
+                .doOnSuccess(saved -> log.info("Cliente actualizado exitosamente: {}", id))
+                .flatMap(saved -> cacheMaintenance.write("cliente:" + id, saved, saved.getVersion(),
+                                cacheProperties.getTtl(), cacheProperties.getHardTtl(), Duration.ZERO)
+                        .then(cacheMaintenance.bumpGeneration("clientes:list"))
+                        .thenReturn(saved))
+                .map(clienteMapper::toResponse);
+    }
+
+    private Mono<Cliente> rejectWrite(UUID id) {
+        return clienteRepository.findState(id)
                 .switchIfEmpty(Mono.error(new ClienteNotFoundException(id)))
-                .flatMap(existing -> {
-                    if (existing.isDeleted()) {
+                .flatMap(state -> {
+                    if (state.isDeleted()) {
                         log.warn("Intento de actualizar cliente eliminado: {}", id);
                         return Mono.error(new ClienteDeletedException(id));
                     }
-
-                    if (!existing.getVersion().equals(request.getVersion())) {
-                        log.warn("Conflicto de versión detectado para cliente: {}", id);
-                        return Mono.error(new OptimisticLockException());
-                    }
-
-                    if (!existing.getEmail().equalsIgnoreCase(request.getEmail())) {
-                        return clienteRepository.existsByEmailIgnoreCaseAndIdNot(request.getEmail(), id)
-                                .flatMap(exists -> {
-                                    if (exists) {
-                                        log.warn("Email duplicado detectado: {}", request.getEmail());
-                                        return Mono.error(new DuplicateEmailException(request.getEmail()));
-                                    }
-                                    return Mono.just(existing);
-                                });
-                    }
-
-                    return Mono.just(existing);
-                })
-                .flatMap(existing -> {
-                    Cliente updated = clienteMapper.toEntity(request);
-                    updated.setId(existing.getId());
-                    updated.setCreatedAt(existing.getCreatedAt());
-                    updated.setUpdatedAt(LocalDateTime.now());
-                    updated.setDeletedAt(existing.getDeletedAt());
-
-                    return clienteRepository.save(updated)
-                            .onErrorMap(OptimisticLockingFailureException.class, 
-                                    e -> new OptimisticLockException())
-                            .doOnSuccess(saved -> log.info("Cliente actualizado exitosamente: {}", id))
-                            .flatMap(saved -> cachePort.delete("cliente:" + id)
-                                    .then(cachePort.deleteByPattern("clientes:list:*"))
-                                    .thenReturn(saved))
-                            .map(clienteMapper::toResponse);
+                    log.warn("Conflicto de versión detectado para cliente: {}", id);
+                    return Mono.error(new OptimisticLockException());
                 });
     }
 }
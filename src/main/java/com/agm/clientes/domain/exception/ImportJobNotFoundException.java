@@ -0,0 +1,10 @@
+package com.agm.clientes.domain.exception;
+
+import java.util.UUID;
+
+public class ImportJobNotFoundException extends RuntimeException {
+
+    public ImportJobNotFoundException(UUID id) {
+        super(String.format("Importación con ID %s no encontrada", id));
+    }
+}
@@ -0,0 +1,8 @@
+package com.agm.clientes.domain.exception;
+
+public class InvalidCountModeException extends RuntimeException {
+
+    public InvalidCountModeException(String countMode) {
+        super(String.format("El modo de conteo %s no es válido; use exact, estimated o none", countMode));
+    }
+}
@@ -0,0 +1,8 @@
+package com.agm.clientes.domain.exception;
+
+public class InvalidCursorException extends RuntimeException {
+    
+    public InvalidCursorException(String cursor) {
+        super(String.format("El cursor %s no es válido para el ordenamiento solicitado", cursor));
+    }
+}
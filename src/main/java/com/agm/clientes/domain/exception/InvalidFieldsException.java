@@ -0,0 +1,8 @@
+package com.agm.clientes.domain.exception;
+
+public class InvalidFieldsException extends RuntimeException {
+
+    public InvalidFieldsException(String field) {
+        super(String.format("El campo %s no es válido para la proyección solicitada", field));
+    }
+}
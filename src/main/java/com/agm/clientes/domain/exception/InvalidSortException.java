@@ -0,0 +1,8 @@
+package com.agm.clientes.domain.exception;
+
+public class InvalidSortException extends RuntimeException {
+
+    public InvalidSortException(String sortBy) {
+        super(String.format("El ordenamiento %s no es válido para la consulta solicitada", sortBy));
+    }
+}
@@ -0,0 +1,64 @@
+package com.agm.clientes.domain.model;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class CacheLookup<T> {
+
+    public enum State {
+        HIT, NOT_FOUND, DELETED
+    }
+
+    private static final CacheLookup<?> NOT_FOUND = new CacheLookup<>(State.NOT_FOUND, null, 0, 0, -1);
+    private static final CacheLookup<?> DELETED = new CacheLookup<>(State.DELETED, null, 0, 0, -1);
+
+    private final State state;
+    private final T value;
+    private final long softExpiresAt;
+    private final long loadMillis;
+    private final long version;
+
+    public static <T> CacheLookup<T> hit(T value) {
+        return new CacheLookup<>(State.HIT, value, 0, 0, -1);
+    }
+
+    public static <T> CacheLookup<T> hit(T value, long softExpiresAt, long loadMillis) {
+        return new CacheLookup<>(State.HIT, value, softExpiresAt, loadMillis, -1);
+    }
+
+    public static <T> CacheLookup<T> hit(T value, long softExpiresAt, long loadMillis, long version) {
+        return new CacheLookup<>(State.HIT, value, softExpiresAt, loadMillis, version);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> CacheLookup<T> notFound() {
+        return (CacheLookup<T>) NOT_FOUND;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> CacheLookup<T> deleted() {
+        return (CacheLookup<T>) DELETED;
+    }
+
+    public boolean isHit() {
+        return state == State.HIT;
+    }
+
+    public boolean isVersioned() {
+        return version >= 0;
+    }
+
+    public boolean isStale(long nowMillis) {
+        return softExpiresAt > 0 && nowMillis >= softExpiresAt;
+    }
+
+    public boolean shouldRefresh(long nowMillis, double beta, double random) {
+        if (!isHit() || softExpiresAt == 0) {
+            return false;
+        }
+        return nowMillis - loadMillis * beta * Math.log(random) >= softExpiresAt;
+    }
+}
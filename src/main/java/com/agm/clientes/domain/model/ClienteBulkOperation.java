@@ -0,0 +1,8 @@
+package com.agm.clientes.domain.model;
+
+public enum ClienteBulkOperation {
+
+    DELETE,
+    ACTIVATE,
+    DEACTIVATE
+}
@@ -0,0 +1,18 @@
+package com.agm.clientes.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClienteCursor {
+
+    private String value;
+    private UUID id;
+}
@@ -0,0 +1,51 @@
+package com.agm.clientes.domain.model;
+
+import com.agm.clientes.domain.exception.InvalidFieldsException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+@Getter
+@RequiredArgsConstructor
+public enum ClienteField {
+
+    ID("id", "id"),
+    NOMBRE("nombre", "nombre"),
+    EMAIL("email", "email"),
+    TELEFONO("telefono", "telefono"),
+    ACTIVO("activo", "activo"),
+    CREATED_AT("createdAt", "created_at"),
+    UPDATED_AT("updatedAt", "updated_at"),
+    VERSION("version", "version");
+
+    public static final Set<ClienteField> ALL = Collections.unmodifiableSet(EnumSet.allOf(ClienteField.class));
+
+    private final String property;
+    private final String column;
+
+    public static Set<ClienteField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+
+        EnumSet<ClienteField> selected = EnumSet.noneOf(ClienteField.class);
+        for (String value : fields.split(",")) {
+            if (!value.isBlank()) {
+                selected.add(fromProperty(value.trim()));
+            }
+        }
+        return selected.isEmpty() ? ALL : Collections.unmodifiableSet(selected);
+    }
+
+    public static ClienteField fromProperty(String value) {
+        for (ClienteField field : values()) {
+            if (field.property.equalsIgnoreCase(value)) {
+                return field;
+            }
+        }
+        throw new InvalidFieldsException(value);
+    }
+}
@@ -0,0 +1,16 @@
+package com.agm.clientes.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClienteSearchHit {
+
+    private Cliente cliente;
+    private float rank;
+}
@@ -0,0 +1,51 @@
+package com.agm.clientes.domain.model;
+
+import com.agm.clientes.domain.exception.InvalidSortException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.function.Function;
+
+@Getter
+@RequiredArgsConstructor
+public enum ClienteSortField {
+
+    CREATED_AT("createdAt", "created_at", Cliente::getCreatedAt),
+    UPDATED_AT("updatedAt", "updated_at", Cliente::getUpdatedAt),
+    NOMBRE("nombre", "nombre", Cliente::getNombre),
+    EMAIL("email", "email", Cliente::getEmail);
+
+    public static final String RELEVANCE = "relevance";
+
+    private final String property;
+    private final String column;
+    private final Function<Cliente, Object> extractor;
+
+    public static ClienteSortField from(String value) {
+        if (value == null || value.isBlank()) {
+            return CREATED_AT;
+        }
+        for (ClienteSortField field : values()) {
+            if (field.property.equalsIgnoreCase(value) || field.column.equalsIgnoreCase(value)) {
+                return field;
+            }
+        }
+        throw new InvalidSortException(value);
+    }
+
+    public static boolean isRelevance(String value) {
+        return RELEVANCE.equalsIgnoreCase(value);
+    }
+
+    public String format(Cliente cliente) {
+        return String.valueOf(extractor.apply(cliente));
+    }
+
+    public Object parse(String value) {
+        return switch (this) {
+            case CREATED_AT, UPDATED_AT -> LocalDateTime.parse(value);
+            case NOMBRE, EMAIL -> value;
+        };
+    }
+}
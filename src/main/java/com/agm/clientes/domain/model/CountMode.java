@@ -0,0 +1,22 @@
+package com.agm.clientes.domain.model;
+
+import com.agm.clientes.domain.exception.InvalidCountModeException;
+
+public enum CountMode {
+
+    EXACT,
+    ESTIMATED,
+    NONE;
+
+    public static CountMode from(String value) {
+        if (value == null || value.isBlank()) {
+            return EXACT;
+        }
+        for (CountMode mode : values()) {
+            if (mode.name().equalsIgnoreCase(value)) {
+                return mode;
+            }
+        }
+        throw new InvalidCountModeException(value);
+    }
+}
@@ -0,0 +1,29 @@
+package com.agm.clientes.domain.model;
+
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Value
+@Builder
+public class ImportJob {
+
+    UUID id;
+    ImportJobStatus status;
+    long received;
+    long invalid;
+    long staged;
+    long inserted;
+    long duplicates;
+    List<String> errors;
+    String failure;
+    LocalDateTime startedAt;
+    LocalDateTime finishedAt;
+
+    public boolean isFinished() {
+        return status == ImportJobStatus.COMPLETED || status == ImportJobStatus.FAILED;
+    }
+}
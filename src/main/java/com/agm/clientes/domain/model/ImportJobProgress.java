@@ -0,0 +1,95 @@
+package com.agm.clientes.domain.model;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class ImportJobProgress {
+
+    @Getter
+    private final UUID id;
+    private final LocalDateTime startedAt;
+    private final int maxErrors;
+    private final AtomicLong received = new AtomicLong();
+    private final AtomicLong invalid = new AtomicLong();
+    private final List<String> errors = new CopyOnWriteArrayList<>();
+
+    private ImportJobStatus status = ImportJobStatus.RECEIVING;
+    private long staged;
+    private long inserted;
+    private String failure;
+    private LocalDateTime finishedAt;
+
+    public ImportJobProgress(UUID id, int maxErrors) {
+        this.id = id;
+        this.maxErrors = maxErrors;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    public void received() {
+        received.incrementAndGet();
+    }
+
+    public void rejected(long lineNumber, String message) {
+        if (invalid.incrementAndGet() <= maxErrors) {
+            errors.add(String.format("Línea %d: %s", lineNumber, message));
+        }
+    }
+
+    public synchronized boolean copying() {
+        if (status != ImportJobStatus.RECEIVING) {
+            return false;
+        }
+        status = ImportJobStatus.COPYING;
+        return true;
+    }
+
+    public synchronized boolean staged(long rows) {
+        if (status != ImportJobStatus.COPYING) {
+            return false;
+        }
+        staged = rows;
+        status = ImportJobStatus.MERGING;
+        return true;
+    }
+
+    public synchronized boolean completed(long rows) {
+        if (status != ImportJobStatus.MERGING) {
+            return false;
+        }
+        inserted = rows;
+        status = ImportJobStatus.COMPLETED;
+        finishedAt = LocalDateTime.now();
+        return true;
+    }
+
+    public synchronized boolean failed(String message) {
+        if (status == ImportJobStatus.COMPLETED || status == ImportJobStatus.FAILED) {
+            return false;
+        }
+        failure = message;
+        status = ImportJobStatus.FAILED;
+        finishedAt = LocalDateTime.now();
+        return true;
+    }
+
+    public synchronized ImportJob snapshot() {
+        return ImportJob.builder()
+                .id(id)
+                .status(status)
+                .received(received.get())
+                .invalid(invalid.get())
+                .staged(staged)
+                .inserted(inserted)
+                .duplicates(status == ImportJobStatus.COMPLETED ? staged - inserted : 0)
+                .errors(List.copyOf(errors))
+                .failure(failure)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .build();
+    }
+}
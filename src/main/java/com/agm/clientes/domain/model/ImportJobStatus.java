@@ -0,0 +1,9 @@
+package com.agm.clientes.domain.model;
+
+public enum ImportJobStatus {
+    RECEIVING,
+    COPYING,
+    MERGING,
+    COMPLETED,
+    FAILED
+}
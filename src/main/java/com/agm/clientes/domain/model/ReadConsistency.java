@@ -0,0 +1,9 @@
+package com.agm.clientes.domain.model;
+
+public enum ReadConsistency {
+
+    ANY,
+    PRIMARY;
+
+    public static final String CONTEXT_KEY = ReadConsistency.class.getName();
+}
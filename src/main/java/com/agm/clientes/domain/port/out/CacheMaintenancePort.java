@@ -0,0 +1,21 @@
+package com.agm.clientes.domain.port.out;
+
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+
+public interface CacheMaintenancePort {
+
+    Mono<Void> write(String key, Object value, long version, Duration softTtl, Duration hardTtl, Duration loadTime);
+
+    Mono<Void> put(String key, Object value, Duration ttl);
+
+    Mono<Void> markNotFound(String key, Duration ttl);
+
+    Mono<Void> markDeleted(String key, Duration ttl);
+
+    Mono<Void> evict(Collection<String> keys);
+
+    Mono<Void> bumpGeneration(String namespace);
+}
@@ -1,16 +1,37 @@
 package com.agm.clientes.domain.port.out;
 
+import com.agm.clientes.domain.model.CacheLookup;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
 public interface CachePort {
 
     <T> Mono<T> get(String key, Class<T> type);
 
+    <T> Mono<CacheLookup<T>> lookup(String key, Class<T> type);
+
+    <T> Mono<Map<String, CacheLookup<T>>> lookupAll(List<String> keys, Class<T> type);
+
     <T> Mono<Boolean> set(String key, T value, Duration ttl);
 
+    <T> Mono<Boolean> setIfNewer(String key, T value, long version, Duration softTtl, Duration hardTtl,
+                                 Duration loadTime);
+
+    Mono<Boolean> setNotFound(String key, Duration ttl);
+
+    Mono<Boolean> setDeleted(String key, Duration ttl);
+
     Mono<Boolean> delete(String key);
 
+    Mono<Boolean> deleteAll(Collection<String> keys);
+
     Mono<Boolean> deleteByPattern(String pattern);
+
+    Mono<Long> generation(String namespace);
+
+    Mono<Long> bumpGeneration(String namespace);
 }
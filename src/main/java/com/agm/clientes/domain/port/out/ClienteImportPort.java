@@ -0,0 +1,16 @@
+package com.agm.clientes.domain.port.out;
+
+import com.agm.clientes.domain.model.Cliente;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ClienteImportPort {
+
+    Mono<Long> copyToStaging(UUID jobId, Flux<Cliente> clientes);
+
+    Mono<Long> mergeStaging(UUID jobId);
+
+    Mono<Void> clearStaging(UUID jobId);
+}
@@ -1,24 +1,60 @@
 package com.agm.clientes.domain.port.out;
 
 import com.agm.clientes.domain.model.Cliente;
+import com.agm.clientes.domain.model.ClienteBulkOperation;
+import com.agm.clientes.domain.model.ClienteCursor;
+import com.agm.clientes.domain.model.ClienteField;
+import com.agm.clientes.domain.model.ClienteSearchHit;
+import com.agm.clientes.domain.model.ClienteState;
+import com.agm.clientes.domain.model.ClienteVersion;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 public interface ClienteRepositoryPort {
 
     Mono<Cliente> save(Cliente cliente);
 
+    Mono<Cliente> insertIfAbsent(Cliente cliente);
+
+    Flux<Cliente> insertAll(List<Cliente> clientes);
+
+    Mono<Cliente> updateIfCurrent(Cliente cliente);
+
+    Mono<Cliente> patchIfCurrent(Cliente changes);
+
+    Mono<Cliente> updateActivo(UUID id, boolean activo);
+
+    Mono<Cliente> softDelete(UUID id);
+
+    Mono<ClienteState> findState(UUID id);
+
     Mono<Cliente> findById(UUID id);
 
-    Flux<Cliente> findAll(Boolean activo, Boolean includeDeleted, String query, int page, int size, String sortBy, String sortDirection);
+    Flux<Cliente> findAllById(Collection<UUID> ids);
 
-    Mono<Boolean> existsByEmailIgnoreCase(String email);
+    Flux<Cliente> findAll(Boolean activo, Boolean includeDeleted, String query, long offset, int limit, String sortBy, String sortDirection, Set<ClienteField> fields);
 
-    Mono<Boolean> existsByEmailIgnoreCaseAndIdNot(String email, UUID id);
+    Flux<Cliente> findAllAfter(Boolean activo, Boolean includeDeleted, String query, ClienteCursor after, int limit, String sortBy, String sortDirection, Set<ClienteField> fields);
+
+    Flux<Cliente> stream(Boolean activo, Boolean includeDeleted, String query);
+
+    Flux<ClienteSearchHit> search(String query, Boolean activo, ClienteCursor after, int limit);
+
+    Flux<String> findExistingEmails(Collection<String> emails);
 
     Mono<Void> deleteById(UUID id);
 
+    Mono<Long> archiveDeleted(LocalDateTime cutoff, int limit);
+
+    Flux<ClienteVersion> bulkUpdate(ClienteBulkOperation operation, List<UUID> ids, Boolean activo, String query);
+
     Mono<Long> count(Boolean activo, Boolean includeDeleted, String query);
+
+    Mono<Long> estimateCount(Boolean activo, Boolean includeDeleted, String query);
 }
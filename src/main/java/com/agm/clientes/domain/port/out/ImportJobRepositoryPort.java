@@ -0,0 +1,16 @@
+package com.agm.clientes.domain.port.out;
+
+import com.agm.clientes.domain.model.ImportJob;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface ImportJobRepositoryPort {
+
+    Mono<ImportJob> save(ImportJob job);
+
+    Mono<ImportJob> findById(UUID id);
+
+    Flux<ImportJob> findAll();
+}
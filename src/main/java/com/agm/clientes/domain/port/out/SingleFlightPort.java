@@ -0,0 +1,10 @@
+package com.agm.clientes.domain.port.out;
+
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+public interface SingleFlightPort {
+
+    <T> Mono<T> execute(String key, Supplier<Mono<T>> lookup, Supplier<Mono<T>> load);
+}
@@ -0,0 +1,267 @@
+package com.agm.clientes.infrastructure.cache;
+
+import com.agm.clientes.application.config.ClienteCacheProperties;
+import com.agm.clientes.domain.port.out.CacheMaintenancePort;
+import com.agm.clientes.domain.port.out.CachePort;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+public class AsyncCacheMaintenance implements CacheMaintenancePort, InitializingBean, DisposableBean {
+
+    private static final String GENERATION_PREFIX = "cache:gen:";
+
+    private enum Kind {
+        WRITE, PUT, NOT_FOUND, DELETED, EVICT, GENERATION
+    }
+
+    private record Task(Kind kind, String key, Object value, long version, Duration softTtl, Duration ttl,
+                        Duration loadTime, long enqueuedAt, int attempts, long notBefore) {
+
+        static Task of(Kind kind, String key, Object value, Duration ttl) {
+            return new Task(kind, key, value, -1, null, ttl, null, System.nanoTime(), 0, 0);
+        }
+
+        Task retry(long retryAt) {
+            return new Task(kind, key, value, version, softTtl, ttl, loadTime, enqueuedAt, attempts + 1, retryAt);
+        }
+
+        Task since(long earlier) {
+            return new Task(kind, key, value, version, softTtl, ttl, loadTime,
+                    Math.min(enqueuedAt, earlier), attempts, notBefore);
+        }
+    }
+
+    private final CachePort cachePort;
+    private final Map<String, Task> pending = new ConcurrentHashMap<>();
+    private final Counter completed;
+    private final Counter coalesced;
+    private final Counter retried;
+    private final Counter dropped;
+    private final Counter shed;
+    private final Counter overflowed;
+    private final Timer lag;
+    private final ClienteCacheProperties.Maintenance settings;
+    private Disposable subscription;
+
+    public AsyncCacheMaintenance(CachePort cachePort, MeterRegistry meterRegistry,
+                                 ClienteCacheProperties cacheProperties) {
+        this.cachePort = cachePort;
+        this.settings = cacheProperties.getMaintenance();
+        this.completed = tasks(meterRegistry, "completed");
+        this.coalesced = tasks(meterRegistry, "coalesced");
+        this.retried = tasks(meterRegistry, "retried");
+        this.dropped = tasks(meterRegistry, "dropped");
+        this.shed = tasks(meterRegistry, "shed");
+        this.overflowed = tasks(meterRegistry, "overflowed");
+        this.lag = Timer.builder("clientes.cache.maintenance.lag").register(meterRegistry);
+        Gauge.builder("clientes.cache.maintenance.queue", pending, Map::size).register(meterRegistry);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        int batchSize = settings.getBatchSize();
+        subscription = Flux.interval(settings.getFlushInterval())
+                .onBackpressureDrop()
+                .concatMap(tick -> Mono.defer(() -> flush(System.currentTimeMillis(), batchSize))
+                        .repeat()
+                        .takeUntil(processed -> processed < batchSize)
+                        .onErrorResume(e -> {
+                            log.error("Error procesando mantenimiento de cache", e);
+                            return Mono.empty();
+                        })
+                        .then(), 1)
+                .subscribe();
+    }
+
+    @Override
+    public void destroy() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        log.info("Aplicando {} tareas de mantenimiento de cache pendientes antes de detener", pending.size());
+        try {
+            flush(Long.MAX_VALUE, Integer.MAX_VALUE).block(settings.getShutdownTimeout());
+        } catch (RuntimeException e) {
+            log.warn("No se pudieron aplicar todas las tareas de mantenimiento de cache: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public Mono<Void> write(String key, Object value, long version, Duration softTtl, Duration hardTtl,
+                            Duration loadTime) {
+        return enqueue(new Task(Kind.WRITE, key, value, version, softTtl, hardTtl, loadTime, System.nanoTime(), 0, 0));
+    }
+
+    @Override
+    public Mono<Void> put(String key, Object value, Duration ttl) {
+        return enqueue(Task.of(Kind.PUT, key, value, ttl));
+    }
+
+    @Override
+    public Mono<Void> markNotFound(String key, Duration ttl) {
+        return enqueue(Task.of(Kind.NOT_FOUND, key, null, ttl));
+    }
+
+    @Override
+    public Mono<Void> markDeleted(String key, Duration ttl) {
+        return enqueue(Task.of(Kind.DELETED, key, null, ttl));
+    }
+
+    @Override
+    public Mono<Void> evict(Collection<String> keys) {
+        return Mono.when(keys.stream().map(key -> enqueue(Task.of(Kind.EVICT, key, null, null))).toList());
+    }
+
+    @Override
+    public Mono<Void> bumpGeneration(String namespace) {
+        return cachePort.bumpGeneration(namespace)
+                .onErrorResume(e -> {
+                    retry(Task.of(Kind.GENERATION, GENERATION_PREFIX + namespace, namespace, null), e);
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    Mono<Integer> flush(long now, int limit) {
+        List<Task> batch = new ArrayList<>();
+        for (Task task : pending.values()) {
+            if (batch.size() >= limit) {
+                break;
+            }
+            if (task.notBefore() <= now && pending.remove(task.key(), task)) {
+                batch.add(task);
+            }
+        }
+        if (batch.isEmpty()) {
+            return Mono.just(0);
+        }
+
+        List<Task> evictions = batch.stream().filter(task -> task.kind() == Kind.EVICT).toList();
+        List<Task> others = batch.stream().filter(task -> task.kind() != Kind.EVICT).toList();
+
+        Mono<Void> evicted = evictions.isEmpty()
+                ? Mono.empty()
+                : run(evictions, () -> cachePort.deleteAll(evictions.stream().map(Task::key).toList()));
+        Mono<Void> applied = Flux.fromIterable(others)
+                .flatMap(task -> run(List.of(task), () -> execute(task)))
+                .then();
+
+        return Mono.when(evicted, applied).thenReturn(batch.size());
+    }
+
+    int pendingCount() {
+        return pending.size();
+    }
+
+    private Mono<Void> enqueue(Task task) {
+        return Mono.defer(() -> {
+            if (pending.size() >= settings.getCapacity() && !pending.containsKey(task.key())) {
+                return overflow(task);
+            }
+
+            pending.merge(task.key(), task, (current, incoming) -> {
+                coalesced.increment();
+                return latest(current, incoming);
+            });
+            return Mono.empty();
+        });
+    }
+
+    private Mono<Void> overflow(Task task) {
+        if (task.kind() == Kind.PUT || task.kind() == Kind.NOT_FOUND) {
+            shed.increment();
+            log.debug("Cola de mantenimiento de cache llena, descartando: {}", task.key());
+            return Mono.empty();
+        }
+
+        overflowed.increment();
+        log.warn("Cola de mantenimiento de cache llena ({}), se elimina {} de forma síncrona",
+                settings.getCapacity(), task.key());
+        return cachePort.delete(task.key())
+                .onErrorResume(e -> {
+                    log.error("Error eliminando {} tras desbordar la cola de mantenimiento de cache: {}",
+                            task.key(), e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private Mono<Void> run(List<Task> tasks, Supplier<Mono<?>> operation) {
+        return Mono.defer(operation)
+                .doOnSuccess(result -> tasks.forEach(task -> {
+                    completed.increment();
+                    lag.record(System.nanoTime() - task.enqueuedAt(), TimeUnit.NANOSECONDS);
+                }))
+                .onErrorResume(e -> {
+                    tasks.forEach(task -> retry(task, e));
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    private Mono<?> execute(Task task) {
+        return switch (task.kind()) {
+            case WRITE -> cachePort.setIfNewer(task.key(), task.value(), task.version(), task.softTtl(), task.ttl(),
+                    task.loadTime());
+            case PUT -> cachePort.set(task.key(), task.value(), task.ttl());
+            case NOT_FOUND -> cachePort.setNotFound(task.key(), task.ttl());
+            case DELETED -> cachePort.setDeleted(task.key(), task.ttl());
+            case EVICT -> cachePort.delete(task.key());
+            case GENERATION -> cachePort.bumpGeneration((String) task.value());
+        };
+    }
+
+    private void retry(Task task, Throwable error) {
+        if (task.attempts() + 1 >= settings.getMaxAttempts()) {
+            dropped.increment();
+            log.error("Descartando mantenimiento de cache para {} tras {} intentos: {}",
+                    task.key(), task.attempts() + 1, error.getMessage());
+            return;
+        }
+
+        long delay = settings.getRetryBackoff().toMillis() << task.attempts();
+        retried.increment();
+        log.warn("Reintentando mantenimiento de cache para {} en {} ms: {}", task.key(), delay, error.getMessage());
+        pending.merge(task.key(), task.retry(System.currentTimeMillis() + delay),
+                (current, failed) -> latest(failed, current));
+    }
+
+    private static Task latest(Task older, Task newer) {
+        boolean keepOlder = switch (older.kind()) {
+            case DELETED -> newer.kind() != Kind.EVICT;
+            case EVICT -> newer.kind() != Kind.DELETED;
+            case WRITE -> newer.kind() == Kind.NOT_FOUND
+                    || newer.kind() == Kind.WRITE && older.version() > newer.version();
+            default -> false;
+        };
+        return keepOlder ? older.since(newer.enqueuedAt()) : newer.since(older.enqueuedAt());
+    }
+
+    private static Counter tasks(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("clientes.cache.maintenance.tasks").tag("result", result).register(meterRegistry);
+    }
+}
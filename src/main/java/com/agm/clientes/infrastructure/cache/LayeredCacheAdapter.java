@@ -0,0 +1,359 @@
+package com.agm.clientes.infrastructure.cache;
+
+import com.agm.clientes.domain.model.CacheLookup;
+import com.agm.clientes.domain.port.out.CachePort;
+import com.agm.clientes.infrastructure.cache.codec.CacheCodecs;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Policy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+@Slf4j
+public class LayeredCacheAdapter implements CachePort, InitializingBean, DisposableBean {
+
+    private static final String KEY_MESSAGE = "K";
+    private static final String PATTERN_MESSAGE = "P";
+    private static final int ENTRY_OVERHEAD = 96;
+
+    private record Local(CacheLookup.State state, long version, Class<?> type, byte[] frame) {
+    }
+
+    private final CachePort remote;
+    private final CacheCodecs codecs;
+    private final ReactiveRedisTemplate<String, String> redisTemplate;
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Duration localTtl;
+    private final Cache<String, Local> local;
+    private final Policy.VarExpiration<String, Local> expiration;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+    private Disposable subscription;
+
+    public LayeredCacheAdapter(CachePort remote, CacheCodecs codecs, ReactiveRedisTemplate<String, String> redisTemplate,
+                               MeterRegistry meterRegistry, long maxWeightBytes, Duration localTtl, String channel) {
+        this.remote = remote;
+        this.codecs = codecs;
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+        this.localTtl = localTtl;
+        this.local = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher(LayeredCacheAdapter::weigh)
+                .expireAfter(new Expiry<String, Local>() {
+                    @Override
+                    public long expireAfterCreate(String key, Local value, long currentTime) {
+                        return localTtl.toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Local value, long currentTime, long currentDuration) {
+                        return localTtl.toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Local value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        this.expiration = local.policy().expireVariably().orElseThrow();
+        this.remoteHits = Counter.builder("clientes.cache.gets")
+                .tag("tier", "l2").tag("result", "hit").register(meterRegistry);
+        this.remoteMisses = Counter.builder("clientes.cache.gets")
+                .tag("tier", "l2").tag("result", "miss").register(meterRegistry);
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "clientes-l1");
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        subscription = redisTemplate.listenToChannel(channel)
+                .doOnSubscribe(s -> {
+                    local.invalidateAll();
+                    log.info("Suscrito a invalidaciones de cache en canal: {}", channel);
+                })
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1)).maxBackoff(Duration.ofSeconds(30))
+                        .doBeforeRetry(signal -> log.warn("Reintentando suscripción a invalidaciones de cache: {}",
+                                signal.failure().getMessage())))
+                .subscribe(message -> onInvalidation(message.getMessage()));
+    }
+
+    @Override
+    public void destroy() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    @Override
+    public <T> Mono<T> get(String key, Class<T> type) {
+        return lookup(key, type)
+                .filter(CacheLookup::isHit)
+                .map(CacheLookup::getValue);
+    }
+
+    @Override
+    public <T> Mono<CacheLookup<T>> lookup(String key, Class<T> type) {
+        CacheLookup<T> cached = fromLocal(key, type);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+
+        return remote.lookup(key, type)
+                .doOnNext(result -> {
+                    remoteHits.increment();
+                    remember(key, result);
+                })
+                .switchIfEmpty(Mono.fromRunnable(remoteMisses::increment));
+    }
+
+    @Override
+    public <T> Mono<Map<String, CacheLookup<T>>> lookupAll(List<String> keys, Class<T> type) {
+        Map<String, CacheLookup<T>> found = new LinkedHashMap<>();
+        List<String> remaining = new ArrayList<>();
+        for (String key : keys) {
+            CacheLookup<T> cached = fromLocal(key, type);
+            if (cached != null) {
+                found.put(key, cached);
+            } else {
+                remaining.add(key);
+            }
+        }
+
+        if (remaining.isEmpty()) {
+            return Mono.just(found);
+        }
+
+        return remote.lookupAll(remaining, type)
+                .map(fetched -> {
+                    remoteHits.increment(fetched.size());
+                    remoteMisses.increment(remaining.size() - fetched.size());
+                    fetched.forEach(this::remember);
+                    found.putAll(fetched);
+                    return found;
+                });
+    }
+
+    @Override
+    public <T> Mono<Boolean> set(String key, T value, Duration ttl) {
+        return remote.set(key, value, ttl)
+                .flatMap(result -> publish(KEY_MESSAGE, key)
+                        .then(Mono.fromRunnable(() -> putLocal(key, CacheLookup.hit(value), ttl)))
+                        .thenReturn(result));
+    }
+
+    @Override
+    public <T> Mono<Boolean> setIfNewer(String key, T value, long version, Duration softTtl, Duration hardTtl,
+                                        Duration loadTime) {
+        return remote.setIfNewer(key, value, version, softTtl, hardTtl, loadTime)
+                .flatMap(written -> {
+                    if (!written) {
+                        local.invalidate(key);
+                        return Mono.just(false);
+                    }
+                    return publish(KEY_MESSAGE, key)
+                            .then(Mono.fromRunnable(() -> putIfNewer(key, CacheLookup.hit(value,
+                                    System.currentTimeMillis() + softTtl.toMillis(), loadTime.toMillis(), version),
+                                    softTtl)))
+                            .thenReturn(true);
+                });
+    }
+
+    @Override
+    public Mono<Boolean> setNotFound(String key, Duration ttl) {
+        return remote.setNotFound(key, ttl)
+                .flatMap(written -> {
+                    if (!written) {
+                        local.invalidate(key);
+                        return Mono.just(false);
+                    }
+                    return publish(KEY_MESSAGE, key)
+                            .then(Mono.fromRunnable(() -> putLocal(key, CacheLookup.notFound(), ttl)))
+                            .thenReturn(true);
+                });
+    }
+
+    @Override
+    public Mono<Boolean> setDeleted(String key, Duration ttl) {
+        return remote.setDeleted(key, ttl)
+                .flatMap(result -> publish(KEY_MESSAGE, key)
+                        .then(Mono.fromRunnable(() -> putLocal(key, CacheLookup.deleted(), ttl)))
+                        .thenReturn(result));
+    }
+
+    @Override
+    public Mono<Boolean> delete(String key) {
+        return Mono.fromRunnable(() -> local.invalidate(key))
+                .then(remote.delete(key))
+                .flatMap(result -> publish(KEY_MESSAGE, key).thenReturn(result));
+    }
+
+    @Override
+    public Mono<Boolean> deleteAll(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return Mono.just(false);
+        }
+
+        return Mono.fromRunnable(() -> local.invalidateAll(keys))
+                .then(remote.deleteAll(keys))
+                .flatMap(result -> Mono.when(keys.stream().map(key -> publish(KEY_MESSAGE, key)).toList())
+                        .thenReturn(result));
+    }
+
+    @Override
+    public Mono<Boolean> deleteByPattern(String pattern) {
+        return Mono.fromRunnable(() -> evictMatching(pattern))
+                .then(remote.deleteByPattern(pattern))
+                .flatMap(result -> publish(PATTERN_MESSAGE, pattern).thenReturn(result));
+    }
+
+    @Override
+    public Mono<Long> generation(String namespace) {
+        return remote.generation(namespace);
+    }
+
+    @Override
+    public Mono<Long> bumpGeneration(String namespace) {
+        return remote.bumpGeneration(namespace);
+    }
+
+    private <T> CacheLookup<T> fromLocal(String key, Class<T> type) {
+        Local cached = local.getIfPresent(key);
+        if (cached == null || cached.state() == CacheLookup.State.HIT && !type.isAssignableFrom(cached.type())) {
+            return null;
+        }
+
+        try {
+            return codecs.decodeLookup(cached.frame(), type);
+        } catch (IOException e) {
+            log.warn("Entrada de cache local ilegible, se descarta: {}", key, e);
+            local.invalidate(key);
+            return null;
+        }
+    }
+
+    private Local toLocal(String key, CacheLookup<?> entry) {
+        try {
+            return new Local(entry.getState(), entry.getVersion(),
+                    entry.isHit() ? entry.getValue().getClass() : null, codecs.encodeLookup(entry));
+        } catch (IOException e) {
+            log.warn("No se pudo codificar {} para la cache local: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void putIfNewer(String key, CacheLookup<?> entry, Duration ttl) {
+        Local candidate = toLocal(key, entry);
+        if (candidate == null) {
+            local.invalidate(key);
+            return;
+        }
+
+        Local merged = local.asMap().merge(key, candidate, (current, incoming) ->
+                current.state() == CacheLookup.State.DELETED || current.version() > incoming.version()
+                        ? current : incoming);
+        if (merged == candidate) {
+            expire(key, ttl);
+        }
+    }
+
+    private void putLocal(String key, CacheLookup<?> entry, Duration ttl) {
+        Local value = toLocal(key, entry);
+        if (value == null) {
+            local.invalidate(key);
+            return;
+        }
+
+        if (ttl.compareTo(localTtl) < 0) {
+            if (ttl.isNegative() || ttl.isZero()) {
+                local.invalidate(key);
+                return;
+            }
+            expiration.put(key, value, ttl);
+        } else {
+            local.put(key, value);
+        }
+    }
+
+    private void expire(String key, Duration ttl) {
+        if (ttl.isNegative() || ttl.isZero()) {
+            local.invalidate(key);
+        } else if (ttl.compareTo(localTtl) < 0) {
+            expiration.setExpiresAfter(key, ttl);
+        }
+    }
+
+    private void remember(String key, CacheLookup<?> entry) {
+        putLocal(key, entry, entry.getSoftExpiresAt() > 0
+                ? Duration.ofMillis(entry.getSoftExpiresAt() - System.currentTimeMillis())
+                : localTtl);
+    }
+
+    void onInvalidation(String message) {
+        String[] parts = message.split(" ", 3);
+        if (parts.length != 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+
+        if (PATTERN_MESSAGE.equals(parts[1])) {
+            evictMatching(parts[2]);
+        } else {
+            local.invalidate(parts[2]);
+        }
+        log.debug("Invalidación remota de cache aplicada: {}", parts[2]);
+    }
+
+    long localSize() {
+        local.cleanUp();
+        return local.estimatedSize();
+    }
+
+    private Mono<Void> publish(String kind, String target) {
+        return redisTemplate.convertAndSend(channel, nodeId + " " + kind + " " + target)
+                .doOnError(e -> log.error("Error publicando invalidación de cache: {}", target, e))
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+
+    private void evictMatching(String pattern) {
+        Pattern regex = Pattern.compile(toRegex(pattern));
+        local.asMap().keySet().removeIf(key -> regex.matcher(key).matches());
+    }
+
+    private static String toRegex(String glob) {
+        StringBuilder regex = new StringBuilder();
+        for (char c : glob.toCharArray()) {
+            switch (c) {
+                case '*' -> regex.append(".*");
+                case '?' -> regex.append('.');
+                default -> regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return regex.toString();
+    }
+
+    private static int weigh(String key, Local value) {
+        return ENTRY_OVERHEAD + 2 * key.length() + value.frame().length;
+    }
+}
@@ -1,35 +1,70 @@
 package com.agm.clientes.infrastructure.cache;
 
+import com.agm.clientes.domain.model.CacheLookup;
 import com.agm.clientes.domain.port.out.CachePort;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.agm.clientes.infrastructure.cache.codec.CacheCodecs;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class RedisCacheAdapter implements CachePort {
 
+    private static final int DELETE_BATCH_SIZE = 1000;
+    private static final long SCAN_COUNT = 1000;
+    private static final String GENERATION_PREFIX = "cache:gen:";
+    private static final RedisScript<Long> SET_IF_NEWER_SCRIPT = RedisScript.of(String.format("""
+            local current = redis.call('GET', KEYS[1])
+            if current then
+              if string.byte(current, 1) == %d then return 0 end
+              local flags = string.byte(current, 2) or 0
+              if string.len(current) >= %d and math.floor(flags / %d) %% 2 == 1 then
+                local version = 0
+                for i = %d, %d do version = version * 256 + string.byte(current, i) end
+                if version > tonumber(ARGV[2]) then return 0 end
+              end
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3])
+            return 1
+            """, CacheCodecs.DELETED_MARKER, CacheCodecs.HEADER_SIZE + Long.BYTES, CacheCodecs.VERSIONED,
+            CacheCodecs.HEADER_SIZE + 1, CacheCodecs.HEADER_SIZE + Long.BYTES), Long.class);
+
     private final ReactiveRedisTemplate<String, String> redisTemplate;
-    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final ReactiveRedisTemplate<String, byte[]> binaryRedisTemplate;
+    private final CacheCodecs codecs;
 
     @Override
     public <T> Mono<T> get(String key, Class<T> type) {
-        return redisTemplate.opsForValue()
+        return lookup(key, type)
+                .filter(CacheLookup::isHit)
+                .map(CacheLookup::getValue);
+    }
+
+    @Override
+    public <T> Mono<CacheLookup<T>> lookup(String key, Class<T> type) {
+        return binaryRedisTemplate.opsForValue()
                 .get(key)
                 .flatMap(value -> {
                     try {
-                        T result = objectMapper.readValue(value, type);
-                        log.debug("Cache hit para key: {}", key);
+                        CacheLookup<T> result = codecs.decodeLookup(value, type);
+                        log.debug("Cache hit para key: {} ({})", key, result.getState());
                         return Mono.just(result);
-                    } catch (JsonProcessingException e) {
+                    } catch (IOException e) {
                         log.error("Error deserializando valor de cache: {}", key, e);
                         return Mono.empty();
                     }
@@ -38,38 +73,152 @@ public class RedisCacheAdapter implements CachePort {
                 .onErrorResume(e -> Mono.empty());
     }
 
+    @Override
+    public <T> Mono<Map<String, CacheLookup<T>>> lookupAll(List<String> keys, Class<T> type) {
+        if (keys.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+
+        return binaryRedisTemplate.opsForValue()
+                .multiGet(keys)
+                .map(values -> {
+                    Map<String, CacheLookup<T>> found = new LinkedHashMap<>();
+                    for (int i = 0; i < keys.size(); i++) {
+                        byte[] value = values.get(i);
+                        if (value == null || value.length == 0) {
+                            continue;
+                        }
+                        try {
+                            found.put(keys.get(i), codecs.decodeLookup(value, type));
+                        } catch (IOException e) {
+                            log.error("Error deserializando valor de cache: {}", keys.get(i), e);
+                        }
+                    }
+                    log.debug("Cache multi-get: {} de {} keys encontradas", found.size(), keys.size());
+                    return found;
+                })
+                .doOnError(e -> log.error("Error obteniendo {} valores de cache", keys.size(), e))
+                .onErrorReturn(Map.of());
+    }
+
     @Override
     public <T> Mono<Boolean> set(String key, T value, Duration ttl) {
         try {
-            String jsonValue = objectMapper.writeValueAsString(value);
-            return redisTemplate.opsForValue()
-                    .set(key, jsonValue, ttl)
+            byte[] encoded = codecs.encode(value, System.currentTimeMillis() + ttl.toMillis(), 0);
+            return binaryRedisTemplate.opsForValue()
+                    .set(key, encoded, ttl)
                     .doOnSuccess(result -> log.debug("Valor guardado en cache: {}", key))
-                    .doOnError(e -> log.error("Error guardando en cache: {}", key, e))
-                    .onErrorReturn(false);
-        } catch (JsonProcessingException e) {
+                    .doOnError(e -> log.error("Error guardando en cache: {}", key, e));
+        } catch (IOException e) {
             log.error("Error serializando valor para cache: {}", key, e);
             return Mono.just(false);
         }
     }
 
+    @Override
+    public <T> Mono<Boolean> setIfNewer(String key, T value, long version, Duration softTtl, Duration hardTtl,
+                                        Duration loadTime) {
+        try {
+            byte[] encoded = codecs.encodeVersioned(value, version,
+                    System.currentTimeMillis() + softTtl.toMillis(), loadTime.toMillis());
+            return writeIfNewer(key, encoded, version, hardTtl)
+                    .doOnError(e -> log.error("Error guardando en cache: {}", key, e));
+        } catch (IOException e) {
+            log.error("Error serializando valor para cache: {}", key, e);
+            return Mono.just(false);
+        }
+    }
+
+    private Mono<Boolean> writeIfNewer(String key, byte[] encoded, long version, Duration ttl) {
+        List<byte[]> args = List.of(encoded, ascii(version), ascii(ttl.toMillis()));
+
+        return binaryRedisTemplate.execute(SET_IF_NEWER_SCRIPT, List.of(key), args)
+                .next()
+                .map(written -> written == 1L)
+                .doOnNext(written -> {
+                    if (written) {
+                        log.debug("Valor guardado en cache: {} (versión {})", key, version);
+                    } else {
+                        log.debug("Cache conserva una versión más reciente para key: {}", key);
+                    }
+                });
+    }
+
+    private static byte[] ascii(long value) {
+        return Long.toString(value).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Override
+    public Mono<Boolean> setNotFound(String key, Duration ttl) {
+        return binaryRedisTemplate.opsForValue()
+                .setIfAbsent(key, codecs.encodeNotFound(), ttl)
+                .doOnSuccess(written -> log.debug("Marcador de inexistencia {} para key: {}",
+                        Boolean.TRUE.equals(written) ? "guardado" : "omitido", key))
+                .doOnError(e -> log.error("Error guardando marcador en cache: {}", key, e));
+    }
+
+    @Override
+    public Mono<Boolean> setDeleted(String key, Duration ttl) {
+        return setMarker(key, codecs.encodeDeleted(), ttl);
+    }
+
     @Override
     public Mono<Boolean> delete(String key) {
         return redisTemplate.delete(key)
                 .map(count -> count > 0)
                 .doOnSuccess(result -> log.debug("Cache eliminado para key: {}", key))
-                .doOnError(e -> log.error("Error eliminando cache: {}", key, e))
-                .onErrorReturn(false);
+                .doOnError(e -> log.error("Error eliminando cache: {}", key, e));
+    }
+
+    @Override
+    public Mono<Boolean> deleteAll(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return Mono.just(false);
+        }
+
+        return Flux.fromIterable(keys)
+                .buffer(DELETE_BATCH_SIZE)
+                .concatMap(batch -> redisTemplate.unlink(batch.toArray(String[]::new)))
+                .reduce(0L, Long::sum)
+                .map(count -> count > 0)
+                .doOnSuccess(result -> log.debug("Cache eliminado para {} keys", keys.size()))
+                .doOnError(e -> log.error("Error eliminando cache para {} keys", keys.size(), e));
     }
 
     @Override
     public Mono<Boolean> deleteByPattern(String pattern) {
-        return redisTemplate.keys(pattern)
-                .flatMap(redisTemplate::delete)
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(SCAN_COUNT).build();
+
+        return redisTemplate.scan(options)
+                .buffer(DELETE_BATCH_SIZE)
+                .concatMap(batch -> redisTemplate.unlink(batch.toArray(String[]::new)))
                 .reduce(0L, Long::sum)
                 .map(count -> count > 0)
                 .doOnSuccess(result -> log.debug("Cache eliminado para pattern: {}", pattern))
-                .doOnError(e -> log.error("Error eliminando cache por pattern: {}", pattern, e))
-                .onErrorReturn(false);
+                .doOnError(e -> log.error("Error eliminando cache por pattern: {}", pattern, e));
+    }
+
+    @Override
+    public Mono<Long> generation(String namespace) {
+        return redisTemplate.opsForValue()
+                .get(GENERATION_PREFIX + namespace)
+                .map(Long::parseLong)
+                .defaultIfEmpty(0L)
+                .doOnError(e -> log.error("Error obteniendo generación de cache: {}", namespace, e));
+    }
+
+    @Override
+    public Mono<Long> bumpGeneration(String namespace) {
+        return redisTemplate.opsForValue()
+                .increment(GENERATION_PREFIX + namespace)
+                .doOnSuccess(generation -> log.debug("Generación de cache {} avanzada a {}", namespace, generation))
+                .doOnError(e -> log.error("Error avanzando generación de cache: {}", namespace, e));
+    }
+
+    private Mono<Boolean> setMarker(String key, byte[] marker, Duration ttl) {
+        return binaryRedisTemplate.opsForValue()
+                .set(key, marker, ttl)
+                .doOnSuccess(result -> log.debug("Marcador guardado en cache: {}", key))
+                .doOnError(e -> log.error("Error guardando marcador en cache: {}", key, e));
     }
 }
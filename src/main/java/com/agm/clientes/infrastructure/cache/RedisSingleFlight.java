@@ -0,0 +1,97 @@
+package com.agm.clientes.infrastructure.cache;
+
+import com.agm.clientes.application.config.ClienteCacheProperties;
+import com.agm.clientes.domain.port.out.SingleFlightPort;
+import com.agm.clientes.infrastructure.persistence.ReadReplicaRouter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisSingleFlight implements SingleFlightPort {
+
+    private static final String LOCK_PREFIX = "lock:";
+    private static final String PRIMARY_SUFFIX = "@primary";
+    private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final ReactiveRedisTemplate<String, String> redisTemplate;
+    private final ReadReplicaRouter readReplicaRouter;
+    private final ClienteCacheProperties cacheProperties;
+    private final Map<String, Mono<?>> inFlight = new ConcurrentHashMap<>();
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> execute(String key, Supplier<Mono<T>> lookup, Supplier<Mono<T>> load) {
+        return Mono.deferContextual(context -> {
+            String flight = readReplicaRouter.pinsToPrimary(context) ? key + PRIMARY_SUFFIX : key;
+            return (Mono<T>) inFlight.computeIfAbsent(flight, k -> {
+                Mono<T> source = cacheProperties.getSingleFlight().isDistributedLock() ? withLock(flight, lookup, load) : Mono.defer(load);
+                return source.doFinally(signal -> inFlight.remove(flight)).cache();
+            });
+        });
+    }
+
+    int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private <T> Mono<T> withLock(String key, Supplier<Mono<T>> lookup, Supplier<Mono<T>> load) {
+        String lockKey = LOCK_PREFIX + key;
+        String token = UUID.randomUUID().toString();
+
+        return redisTemplate.opsForValue()
+                .setIfAbsent(lockKey, token, cacheProperties.getSingleFlight().getLockTtl())
+                .map(Optional::of)
+                .onErrorResume(e -> {
+                    log.warn("No se pudo adquirir el lock distribuido para {}: {}", key, e.getMessage());
+                    return Mono.just(Optional.empty());
+                })
+                .flatMap(acquired -> {
+                    if (acquired.isEmpty()) {
+                        return Mono.defer(load);
+                    }
+                    if (!acquired.get()) {
+                        return awaitOtherNode(key, lookup, load);
+                    }
+                    return Mono.usingWhen(Mono.just(token),
+                            held -> Mono.defer(lookup).switchIfEmpty(Mono.defer(load)),
+                            held -> release(lockKey, held));
+                });
+    }
+
+    private <T> Mono<T> awaitOtherNode(String key, Supplier<Mono<T>> lookup, Supplier<Mono<T>> load) {
+        log.debug("Carga de {} en curso en otro nodo, esperando resultado en cache", key);
+
+        ClienteCacheProperties.SingleFlight settings = cacheProperties.getSingleFlight();
+
+        return Flux.interval(settings.getWaitInterval())
+                .take(settings.getMaxWaitAttempts())
+                .concatMap(attempt -> Mono.defer(lookup))
+                .next()
+                .switchIfEmpty(Mono.defer(load));
+    }
+
+    private Mono<Void> release(String lockKey, String token) {
+        return redisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey), List.of(token))
+                .onErrorResume(e -> {
+                    log.warn("No se pudo liberar el lock distribuido {}: {}", lockKey, e.getMessage());
+                    return Flux.empty();
+                })
+                .then();
+    }
+}
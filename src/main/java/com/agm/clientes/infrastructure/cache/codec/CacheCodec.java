@@ -0,0 +1,14 @@
+package com.agm.clientes.infrastructure.cache.codec;
+
+import java.io.IOException;
+
+public interface CacheCodec {
+
+    byte id();
+
+    boolean supports(Class<?> type);
+
+    byte[] encode(Object value) throws IOException;
+
+    <T> T decode(byte[] payload, Class<T> type) throws IOException;
+}
@@ -0,0 +1,189 @@
+package com.agm.clientes.infrastructure.cache.codec;
+
+import com.agm.clientes.application.config.ClienteCacheProperties;
+import com.agm.clientes.domain.model.CacheLookup;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+@Component
+public class CacheCodecs {
+
+    public static final int HEADER_SIZE = 2;
+    public static final byte VERSIONED = 1 << 2;
+    public static final byte DELETED_MARKER = Byte.MAX_VALUE;
+
+    private static final byte DEFLATED = 1;
+    private static final byte TIMED = 1 << 1;
+    private static final int TIMING_SIZE = Long.BYTES + Integer.BYTES;
+    private static final int BUFFER_SIZE = 4096;
+    private static final byte NOT_FOUND_MARKER = Byte.MAX_VALUE - 1;
+
+    private final List<CacheCodec> codecs;
+    private final CacheCodec[] byId = new CacheCodec[Byte.MAX_VALUE + 1];
+    private final DataSize compressionThreshold;
+
+    public CacheCodecs(List<CacheCodec> codecs, ClienteCacheProperties cacheProperties) {
+        this.codecs = List.copyOf(codecs);
+        this.compressionThreshold = cacheProperties.getCompressionThreshold();
+        for (CacheCodec codec : codecs) {
+            if (codec.id() >= NOT_FOUND_MARKER) {
+                throw new IllegalStateException("Identificador de codec reservado: " + codec.id());
+            }
+            if (byId[codec.id()] != null) {
+                throw new IllegalStateException("Identificador de codec duplicado: " + codec.id());
+            }
+            byId[codec.id()] = codec;
+        }
+    }
+
+    public byte[] encode(Object value) throws IOException {
+        return encode(value, 0, 0);
+    }
+
+    public byte[] encode(Object value, long softExpiresAt, long loadMillis) throws IOException {
+        return encode(value, -1, softExpiresAt, loadMillis);
+    }
+
+    public byte[] encodeVersioned(Object value, long version, long softExpiresAt, long loadMillis) throws IOException {
+        if (version < 0) {
+            throw new IllegalArgumentException("La versión de cache no puede ser negativa: " + version);
+        }
+        return encode(value, version, softExpiresAt, loadMillis);
+    }
+
+    private byte[] encode(Object value, long version, long softExpiresAt, long loadMillis) throws IOException {
+        CacheCodec codec = codecs.stream()
+                .filter(candidate -> candidate.supports(value.getClass()))
+                .findFirst()
+                .orElseThrow(() -> new IOException("No hay codec para el tipo " + value.getClass().getName()));
+
+        byte[] payload = codec.encode(value);
+        byte flags = 0;
+
+        if (payload.length > compressionThreshold.toBytes()) {
+            byte[] deflated = deflate(payload);
+            if (deflated.length < payload.length) {
+                payload = deflated;
+                flags = DEFLATED;
+            }
+        }
+
+        boolean versioned = version >= 0;
+        boolean timed = softExpiresAt > 0;
+        if (versioned) {
+            flags |= VERSIONED;
+        }
+        if (timed) {
+            flags |= TIMED;
+        }
+
+        ByteBuffer frame = ByteBuffer.allocate(HEADER_SIZE + (versioned ? Long.BYTES : 0)
+                        + (timed ? TIMING_SIZE : 0) + payload.length)
+                .put(codec.id())
+                .put(flags);
+        if (versioned) {
+            frame.putLong(version);
+        }
+        if (timed) {
+            frame.putLong(softExpiresAt).putInt((int) Math.min(loadMillis, Integer.MAX_VALUE));
+        }
+        return frame.put(payload).array();
+    }
+
+    public byte[] encodeLookup(CacheLookup<?> lookup) throws IOException {
+        return switch (lookup.getState()) {
+            case NOT_FOUND -> encodeNotFound();
+            case DELETED -> encodeDeleted();
+            case HIT -> encode(lookup.getValue(), lookup.getVersion(), lookup.getSoftExpiresAt(), lookup.getLoadMillis());
+        };
+    }
+
+    public byte[] encodeNotFound() {
+        return new byte[]{NOT_FOUND_MARKER, 0};
+    }
+
+    public byte[] encodeDeleted() {
+        return new byte[]{DELETED_MARKER, 0};
+    }
+
+    public <T> CacheLookup<T> decodeLookup(byte[] frame, Class<T> type) throws IOException {
+        if (frame.length == HEADER_SIZE && frame[0] == NOT_FOUND_MARKER) {
+            return CacheLookup.notFound();
+        }
+        if (frame.length == HEADER_SIZE && frame[0] == DELETED_MARKER) {
+            return CacheLookup.deleted();
+        }
+        T value = decode(frame, type);
+        ByteBuffer header = ByteBuffer.wrap(frame, HEADER_SIZE, frame.length - HEADER_SIZE);
+        long version = (frame[1] & VERSIONED) != 0 ? header.getLong() : -1;
+        if ((frame[1] & TIMED) == 0) {
+            return CacheLookup.hit(value, 0, 0, version);
+        }
+        return CacheLookup.hit(value, header.getLong(), header.getInt(), version);
+    }
+
+    public <T> T decode(byte[] frame, Class<T> type) throws IOException {
+        if (frame.length < HEADER_SIZE || frame[0] < 0 || byId[frame[0]] == null) {
+            throw new IOException("Formato de valor de cache desconocido");
+        }
+
+        int offset = HEADER_SIZE + ((frame[1] & VERSIONED) != 0 ? Long.BYTES : 0)
+                + ((frame[1] & TIMED) != 0 ? TIMING_SIZE : 0);
+        if (frame.length < offset) {
+            throw new IOException("Valor de cache truncado");
+        }
+
+        byte[] payload = Arrays.copyOfRange(frame, offset, frame.length);
+        if ((frame[1] & DEFLATED) != 0) {
+            payload = inflate(payload);
+        }
+
+        return byId[frame[0]].decode(payload, type);
+    }
+
+    private byte[] deflate(byte[] payload) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(payload);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length / 2);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private byte[] inflate(byte[] payload) throws IOException {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(payload);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length * 3);
+            byte[] buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                int read = inflater.inflate(buffer);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IOException("Valor de cache comprimido truncado");
+                }
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } catch (DataFormatException e) {
+            throw new IOException("Valor de cache comprimido inválido", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.agm.clientes.infrastructure.cache.codec;
+
+import com.agm.clientes.domain.model.Cliente;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ClienteBinaryCodec implements CacheCodec {
+
+    private static final byte ID = 1;
+    private static final int ESTIMATED_SIZE = 128;
+
+    private static final int HAS_ID = 1;
+    private static final int HAS_NOMBRE = 1 << 1;
+    private static final int HAS_EMAIL = 1 << 2;
+    private static final int HAS_TELEFONO = 1 << 3;
+    private static final int HAS_ACTIVO = 1 << 4;
+    private static final int ACTIVO = 1 << 5;
+    private static final int HAS_DELETED_AT = 1 << 6;
+    private static final int HAS_CREATED_AT = 1 << 7;
+    private static final int HAS_UPDATED_AT = 1 << 8;
+    private static final int HAS_VERSION = 1 << 9;
+
+    @Override
+    public byte id() {
+        return ID;
+    }
+
+    @Override
+    public boolean supports(Class<?> type) {
+        return type == Cliente.class;
+    }
+
+    @Override
+    public byte[] encode(Object value) throws IOException {
+        Cliente cliente = (Cliente) value;
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(ESTIMATED_SIZE);
+        DataOutputStream out = new DataOutputStream(bytes);
+
+        out.writeShort(presence(cliente));
+        if (cliente.getId() != null) {
+            out.writeLong(cliente.getId().getMostSignificantBits());
+            out.writeLong(cliente.getId().getLeastSignificantBits());
+        }
+        writeString(out, cliente.getNombre());
+        writeString(out, cliente.getEmail());
+        writeString(out, cliente.getTelefono());
+        writeDateTime(out, cliente.getDeletedAt());
+        writeDateTime(out, cliente.getCreatedAt());
+        writeDateTime(out, cliente.getUpdatedAt());
+        if (cliente.getVersion() != null) {
+            out.writeLong(cliente.getVersion());
+        }
+
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    @Override
+    public <T> T decode(byte[] payload, Class<T> type) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        int presence = in.readUnsignedShort();
+
+        Cliente cliente = Cliente.builder()
+                .id(has(presence, HAS_ID) ? new UUID(in.readLong(), in.readLong()) : null)
+                .nombre(has(presence, HAS_NOMBRE) ? in.readUTF() : null)
+                .email(has(presence, HAS_EMAIL) ? in.readUTF() : null)
+                .telefono(has(presence, HAS_TELEFONO) ? in.readUTF() : null)
+                .activo(has(presence, HAS_ACTIVO) ? has(presence, ACTIVO) : null)
+                .deletedAt(has(presence, HAS_DELETED_AT) ? readDateTime(in) : null)
+                .createdAt(has(presence, HAS_CREATED_AT) ? readDateTime(in) : null)
+                .updatedAt(has(presence, HAS_UPDATED_AT) ? readDateTime(in) : null)
+                .version(has(presence, HAS_VERSION) ? in.readLong() : null)
+                .build();
+
+        return type.cast(cliente);
+    }
+
+    private int presence(Cliente cliente) {
+        int presence = 0;
+        presence |= cliente.getId() != null ? HAS_ID : 0;
+        presence |= cliente.getNombre() != null ? HAS_NOMBRE : 0;
+        presence |= cliente.getEmail() != null ? HAS_EMAIL : 0;
+        presence |= cliente.getTelefono() != null ? HAS_TELEFONO : 0;
+        presence |= cliente.getActivo() != null ? HAS_ACTIVO : 0;
+        presence |= Boolean.TRUE.equals(cliente.getActivo()) ? ACTIVO : 0;
+        presence |= cliente.getDeletedAt() != null ? HAS_DELETED_AT : 0;
+        presence |= cliente.getCreatedAt() != null ? HAS_CREATED_AT : 0;
+        presence |= cliente.getUpdatedAt() != null ? HAS_UPDATED_AT : 0;
+        presence |= cliente.getVersion() != null ? HAS_VERSION : 0;
+        return presence;
+    }
+
+    private boolean has(int presence, int flag) {
+        return (presence & flag) != 0;
+    }
+
+    private void writeString(DataOutputStream out, String value) throws IOException {
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private void writeDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        if (value != null) {
+            out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(value.getNano());
+        }
+    }
+
+    private LocalDateTime readDateTime(DataInputStream in) throws IOException {
+        return LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,32 @@
+package com.agm.clientes.infrastructure.config;
+
+import com.agm.clientes.application.config.ClienteCacheProperties;
+import com.agm.clientes.infrastructure.cache.LayeredCacheAdapter;
+import com.agm.clientes.infrastructure.cache.RedisCacheAdapter;
+import com.agm.clientes.infrastructure.cache.codec.CacheCodecs;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+
+@Slf4j
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    @Primary
+    public LayeredCacheAdapter layeredCacheAdapter(
+            RedisCacheAdapter redisCacheAdapter,
+            CacheCodecs cacheCodecs,
+            ReactiveRedisTemplate<String, String> reactiveRedisTemplate,
+            MeterRegistry meterRegistry,
+            ClienteCacheProperties cacheProperties) {
+
+        ClienteCacheProperties.L1 l1 = cacheProperties.getL1();
+        log.info("Cache local habilitada - tamaño máximo: {}, TTL: {}", l1.getMaxSize(), l1.getTtl());
+        return new LayeredCacheAdapter(redisCacheAdapter, cacheCodecs, reactiveRedisTemplate, meterRegistry,
+                l1.getMaxSize().toBytes(), l1.getTtl(), cacheProperties.getInvalidationChannel());
+    }
+}
@@ -1,13 +1,25 @@
 package com.agm.clientes.infrastructure.config;
 
+import com.agm.clientes.infrastructure.persistence.ReadReplicaRouter;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.postgresql.PostgresqlConnectionFactoryProvider;
+import io.r2dbc.spi.ConnectionFactories;
 import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.r2dbc.config.EnableR2dbcAuditing;
 import org.springframework.r2dbc.connection.init.ConnectionFactoryInitializer;
 import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+import org.springframework.r2dbc.core.DatabaseClient;
 
+import java.time.Duration;
+
+@Slf4j
 @Configuration
 @EnableR2dbcAuditing
 public class DatabaseConfig {
@@ -18,4 +30,39 @@ public class DatabaseConfig {
         initializer.setConnectionFactory(connectionFactory);
         return initializer;
     }
+
+    @Bean
+    public ReadReplicaRouter readReplicaRouter(
+            DatabaseClient databaseClient,
+            @Value("${database.replica.enabled:false}") boolean enabled,
+            @Value("${database.replica.url:}") String url,
+            @Value("${database.replica.username:}") String username,
+            @Value("${database.replica.password:}") String password,
+            @Value("${database.replica.pool.initial-size:5}") int initialSize,
+            @Value("${database.replica.pool.max-size:20}") int maxSize,
+            @Value("${database.replica.pool.max-idle-time:30m}") Duration maxIdleTime,
+            @Value("${spring.r2dbc.properties.preparedStatementCacheQueries:512}") int statementCacheSize) {
+
+        if (!enabled || url.isBlank()) {
+            log.info("Réplica de lectura deshabilitada, todas las consultas usan el primario");
+            return ReadReplicaRouter.primaryOnly(databaseClient);
+        }
+
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .option(PostgresqlConnectionFactoryProvider.PREPARED_STATEMENT_CACHE_QUERIES, statementCacheSize)
+                .build();
+
+        ConnectionPool pool = new ConnectionPool(ConnectionPoolConfiguration.builder(ConnectionFactories.get(options))
+                .name("clientes-replica")
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .maxIdleTime(maxIdleTime)
+                .validationQuery("SELECT 1")
+                .build());
+
+        log.info("Réplica de lectura habilitada");
+        return new ReadReplicaRouter(databaseClient, DatabaseClient.create(pool), pool);
+    }
 }
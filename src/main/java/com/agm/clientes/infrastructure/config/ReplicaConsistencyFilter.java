@@ -0,0 +1,75 @@
+package com.agm.clientes.infrastructure.config;
+
+import com.agm.clientes.domain.model.ReadConsistency;
+import com.agm.clientes.infrastructure.persistence.ReadReplicaRouter;
+import com.agm.clientes.infrastructure.persistence.ReplicaLagGuard;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.security.Principal;
+import java.util.Optional;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+public class ReplicaConsistencyFilter implements WebFilter {
+
+    public static final String CALLER_HEADER = "X-Caller-Id";
+    public static final String CONSISTENCY_TOKEN_HEADER = "X-Consistency-Token";
+
+    private static final Set<HttpMethod> READ_METHODS = Set.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS);
+
+    private final ReadReplicaRouter readReplicaRouter;
+    private final ReplicaLagGuard replicaLagGuard;
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!readReplicaRouter.isReplicaEnabled()) {
+            return chain.filter(exchange);
+        }
+
+        return resolveCaller(exchange)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(caller -> READ_METHODS.contains(exchange.getRequest().getMethod())
+                        ? read(exchange, chain, caller.orElse(null))
+                        : write(exchange, chain, caller.orElse(null)));
+    }
+
+    private Mono<Void> read(ServerWebExchange exchange, WebFilterChain chain, String caller) {
+        String token = exchange.getRequest().getHeaders().getFirst(CONSISTENCY_TOKEN_HEADER);
+
+        return replicaLagGuard.requiresPrimary(caller, token)
+                .defaultIfEmpty(false)
+                .flatMap(primary -> primary ? pinned(exchange, chain) : chain.filter(exchange));
+    }
+
+    private Mono<Void> write(ServerWebExchange exchange, WebFilterChain chain, String caller) {
+        exchange.getResponse().beforeCommit(() -> replicaLagGuard.recordWrite(caller)
+                .doOnNext(writtenAt -> exchange.getResponse().getHeaders()
+                        .set(CONSISTENCY_TOKEN_HEADER, Long.toString(writtenAt)))
+                .then());
+
+        return pinned(exchange, chain);
+    }
+
+    private Mono<Void> pinned(ServerWebExchange exchange, WebFilterChain chain) {
+        return chain.filter(exchange)
+                .contextWrite(context -> context.put(ReadConsistency.CONTEXT_KEY, ReadConsistency.PRIMARY));
+    }
+
+    private Mono<String> resolveCaller(ServerWebExchange exchange) {
+        return exchange.getPrincipal()
+                .map(Principal::getName)
+                .filter(name -> !name.isBlank())
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    String header = exchange.getRequest().getHeaders().getFirst(CALLER_HEADER);
+                    return header == null || header.isBlank() ? null : header.trim();
+                }));
+    }
+}
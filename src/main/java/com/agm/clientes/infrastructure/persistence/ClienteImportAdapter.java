@@ -0,0 +1,103 @@
+package com.agm.clientes.infrastructure.persistence;
+
+import com.agm.clientes.domain.model.Cliente;
+import com.agm.clientes.domain.port.out.ClienteImportPort;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.r2dbc.postgresql.api.PostgresqlConnection;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.Wrapped;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class ClienteImportAdapter implements ClienteImportPort {
+
+    private static final String COPY_STAGING =
+            "COPY clientes_import_staging (job_id, nombre, email, telefono) FROM STDIN";
+    private static final String MERGE_STAGING = "WITH candidatos AS ("
+            + "SELECT DISTINCT ON (LOWER(email)) nombre, email, telefono FROM clientes_import_staging "
+            + "WHERE job_id = :jobId ORDER BY LOWER(email), position), "
+            + "insertados AS ("
+            + "INSERT INTO clientes (nombre, email, telefono, activo, created_at, updated_at, version) "
+            + "SELECT nombre, email, telefono, TRUE, :now, :now, 0 FROM candidatos "
+            + "ON CONFLICT DO NOTHING RETURNING 1) "
+            + "SELECT COUNT(*) FROM insertados";
+    private static final String CLEAR_STAGING = "DELETE FROM clientes_import_staging WHERE job_id = :jobId";
+    private static final String NULL_VALUE = "\\N";
+
+    private final DatabaseClient databaseClient;
+
+    @Value("${imports.copy-chunk-size:500}")
+    private int copyChunkSize = 500;
+
+    @Override
+    public Mono<Long> copyToStaging(UUID jobId, Flux<Cliente> clientes) {
+        String job = jobId.toString();
+        Flux<ByteBuf> chunks = clientes
+                .map(cliente -> toCopyLine(job, cliente))
+                .buffer(copyChunkSize)
+                .map(this::toChunk);
+
+        return databaseClient.inConnection(connection -> unwrap(connection)
+                .copyIn(COPY_STAGING)
+                .from(chunks)
+                .build());
+    }
+
+    @Override
+    public Mono<Long> mergeStaging(UUID jobId) {
+        return databaseClient.sql(MERGE_STAGING)
+                .bind("jobId", jobId)
+                .bind("now", LocalDateTime.now())
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    @Override
+    public Mono<Void> clearStaging(UUID jobId) {
+        return databaseClient.sql(CLEAR_STAGING)
+                .bind("jobId", jobId)
+                .then();
+    }
+
+    private ByteBuf toChunk(List<String> lines) {
+        return Unpooled.wrappedBuffer(String.join("", lines).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String toCopyLine(String jobId, Cliente cliente) {
+        return jobId + '\t' + escape(cliente.getNombre()) + '\t' + escape(cliente.getEmail()) + '\t'
+                + escape(cliente.getTelefono()) + '\n';
+    }
+
+    private String escape(String value) {
+        if (value == null || value.isEmpty()) {
+            return NULL_VALUE;
+        }
+        return value.replace("\\", "\\\\")
+                .replace("\t", "\\t")
+                .replace("\n", "\\n")
+                .replace("\r", "\\r");
+    }
+
+    private PostgresqlConnection unwrap(Connection connection) {
+        Object current = connection;
+        while (!(current instanceof PostgresqlConnection) && current instanceof Wrapped<?> wrapped) {
+            current = wrapped.unwrap();
+        }
+        if (current instanceof PostgresqlConnection postgresqlConnection) {
+            return postgresqlConnection;
+        }
+        throw new IllegalStateException("La conexión actual no soporta COPY FROM STDIN");
+    }
+}
@@ -0,0 +1,277 @@
+package com.agm.clientes.infrastructure.persistence;
+
+import com.agm.clientes.domain.model.ClienteBulkOperation;
+import com.agm.clientes.domain.model.ClienteField;
+import com.agm.clientes.domain.model.ClienteSortField;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+@Component
+public class ClienteQueryCompiler {
+
+    public static final String CLIENTE_COLUMNS =
+            "id, nombre, email, telefono, activo, deleted_at, created_at, updated_at, version";
+    public static final String RELEVANCE_SORT = ClienteSortField.RELEVANCE;
+
+    private static final String TABLE = "clientes";
+    private static final String ALL_CLIENTES = "(SELECT " + CLIENTE_COLUMNS + " FROM clientes UNION ALL SELECT "
+            + CLIENTE_COLUMNS + " FROM clientes_archive) clientes";
+    private static final String FULL_SELECT = "SELECT " + CLIENTE_COLUMNS + " ";
+    private static final String SEARCH_PREDICATE =
+            "(LOWER(nombre) LIKE :query ESCAPE '\\' OR LOWER(email) LIKE :query ESCAPE '\\')";
+    private static final String RELEVANCE_ORDER =
+            " ORDER BY GREATEST(similarity(LOWER(nombre), :term), similarity(LOWER(email), :term)) DESC, id DESC";
+    private static final String TS_QUERY = "websearch_to_tsquery('simple', clientes_unaccent(:query))";
+    private static final boolean[] FLAGS = {false, true};
+
+    private enum Kind {
+        PAGE, RELEVANCE_PAGE, SEEK_FIRST, SEEK_NEXT, COUNT, COUNTER, ESTIMATE, EXPORT, SEARCH_FIRST, SEARCH_NEXT
+    }
+
+    private record Shape(Kind kind, boolean includeDeleted, boolean hasActivo, boolean hasQuery,
+                         ClienteSortField sortField, Sort.Direction direction) {
+    }
+
+    private record BulkShape(ClienteBulkOperation operation, boolean byIds, boolean hasActivo, boolean hasQuery) {
+    }
+
+    private record Projection(String sql, List<ClienteField> columns) {
+    }
+
+    private final Map<Shape, String> statements;
+    private final Map<BulkShape, String> bulkStatements;
+    private final Map<Projection, String> projections = new ConcurrentHashMap<>();
+
+    public ClienteQueryCompiler() {
+        Map<Shape, String> compiled = new HashMap<>();
+
+        for (boolean includeDeleted : FLAGS) {
+            for (boolean hasActivo : FLAGS) {
+                for (boolean hasQuery : FLAGS) {
+                    compileFilterShapes(compiled, includeDeleted, hasActivo, hasQuery);
+                }
+            }
+        }
+
+        for (boolean includeDeleted : FLAGS) {
+            for (boolean hasActivo : FLAGS) {
+                StringJoiner conditions = new StringJoiner(" AND ", " WHERE ", "").setEmptyValue("");
+                if (!includeDeleted) {
+                    conditions.add("deleted = FALSE");
+                }
+                if (hasActivo) {
+                    conditions.add("activo = :activo");
+                }
+                compiled.put(new Shape(Kind.COUNTER, includeDeleted, hasActivo, false, null, null),
+                        "SELECT COALESCE(SUM(total), 0)::bigint FROM clientes_counters" + conditions);
+            }
+        }
+
+        for (boolean hasActivo : FLAGS) {
+            String inner = "SELECT " + CLIENTE_COLUMNS + ", ts_rank(search_vector, " + TS_QUERY + ") AS rank"
+                    + " FROM " + TABLE
+                    + " WHERE deleted_at IS NULL AND search_vector @@ " + TS_QUERY
+                    + (hasActivo ? " AND activo = :activo" : "");
+            String outer = "SELECT " + CLIENTE_COLUMNS + ", rank FROM (" + inner + ") ranked";
+            String order = " ORDER BY rank DESC, id DESC LIMIT :limit";
+
+            compiled.put(new Shape(Kind.SEARCH_FIRST, false, hasActivo, true, null, null), outer + order);
+            compiled.put(new Shape(Kind.SEARCH_NEXT, false, hasActivo, true, null, null),
+                    outer + " WHERE (rank, id) < (:afterRank, :afterId)" + order);
+        }
+
+        this.statements = Map.copyOf(compiled);
+
+        Map<BulkShape, String> bulk = new HashMap<>();
+        for (ClienteBulkOperation operation : ClienteBulkOperation.values()) {
+            bulk.put(new BulkShape(operation, true, false, false), compileBulk(operation, true, false, false));
+            for (boolean hasActivo : FLAGS) {
+                for (boolean hasQuery : FLAGS) {
+                    if (hasActivo || hasQuery) {
+                        bulk.put(new BulkShape(operation, false, hasActivo, hasQuery),
+                                compileBulk(operation, false, hasActivo, hasQuery));
+                    }
+                }
+            }
+        }
+        this.bulkStatements = Map.copyOf(bulk);
+    }
+
+    public String page(boolean includeDeleted, boolean hasActivo, boolean hasQuery,
+                       ClienteSortField sortField, Sort.Direction direction) {
+        return lookup(new Shape(Kind.PAGE, includeDeleted, hasActivo, hasQuery, sortField, direction));
+    }
+
+    public String relevancePage(boolean includeDeleted, boolean hasActivo) {
+        return lookup(new Shape(Kind.RELEVANCE_PAGE, includeDeleted, hasActivo, true, null, null));
+    }
+
+    public String seek(boolean includeDeleted, boolean hasActivo, boolean hasQuery,
+                       ClienteSortField sortField, Sort.Direction direction, boolean hasCursor) {
+        Kind kind = hasCursor ? Kind.SEEK_NEXT : Kind.SEEK_FIRST;
+        return lookup(new Shape(kind, includeDeleted, hasActivo, hasQuery, sortField, direction));
+    }
+
+    public String count(boolean includeDeleted, boolean hasActivo, boolean hasQuery) {
+        return lookup(new Shape(Kind.COUNT, includeDeleted, hasActivo, hasQuery, null, null));
+    }
+
+    public String counter(boolean includeDeleted, boolean hasActivo) {
+        return lookup(new Shape(Kind.COUNTER, includeDeleted, hasActivo, false, null, null));
+    }
+
+    public String estimate(boolean includeDeleted, boolean hasActivo, boolean hasQuery) {
+        return lookup(new Shape(Kind.ESTIMATE, includeDeleted, hasActivo, hasQuery, null, null));
+    }
+
+    public String export(boolean includeDeleted, boolean hasActivo, boolean hasQuery) {
+        return lookup(new Shape(Kind.EXPORT, includeDeleted, hasActivo, hasQuery, null, null));
+    }
+
+    public String search(boolean hasActivo, boolean hasCursor) {
+        Kind kind = hasCursor ? Kind.SEARCH_NEXT : Kind.SEARCH_FIRST;
+        return lookup(new Shape(kind, false, hasActivo, true, null, null));
+    }
+
+    public String bulkUpdate(ClienteBulkOperation operation, boolean byIds, boolean hasActivo, boolean hasQuery) {
+        BulkShape shape = byIds 
+                ? new BulkShape(operation, true, false, false) 
+                : new BulkShape(operation, false, hasActivo, hasQuery);
+        String sql = bulkStatements.get(shape);
+        if (sql == null) {
+            throw new IllegalArgumentException("Combinación de consulta no soportada: " + shape);
+        }
+        return sql;
+    }
+
+    public String project(String sql, List<ClienteField> columns) {
+        return projections.computeIfAbsent(new Projection(sql, List.copyOf(columns)), projection -> {
+            if (!sql.startsWith(FULL_SELECT)) {
+                throw new IllegalArgumentException("La consulta no admite proyección de columnas: " + sql);
+            }
+            return columns.stream()
+                    .map(ClienteField::getColumn)
+                    .collect(Collectors.joining(", ", "SELECT ", " "))
+                    + sql.substring(FULL_SELECT.length());
+        });
+    }
+
+    public String term(String query) {
+        return query.trim().toLowerCase(Locale.ROOT);
+    }
+
+    public String likePattern(String query) {
+        String escaped = term(query)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    private String lookup(Shape shape) {
+        String sql = statements.get(shape);
+        if (sql == null) {
+            throw new IllegalArgumentException("Combinación de consulta no soportada: " + shape);
+        }
+        return sql;
+    }
+
+    private void compileFilterShapes(Map<Shape, String> compiled, boolean includeDeleted,
+                                     boolean hasActivo, boolean hasQuery) {
+        String where = where(includeDeleted, hasActivo, hasQuery, null);
+        String source = includeDeleted ? ALL_CLIENTES : TABLE;
+        String select = "SELECT " + CLIENTE_COLUMNS + " FROM " + source;
+
+        compiled.put(new Shape(Kind.COUNT, includeDeleted, hasActivo, hasQuery, null, null),
+                "SELECT COUNT(*) FROM " + source + where);
+        compiled.put(new Shape(Kind.ESTIMATE, includeDeleted, hasActivo, hasQuery, null, null),
+                "EXPLAIN (FORMAT JSON) SELECT 1 FROM " + source + where);
+        compiled.put(new Shape(Kind.EXPORT, includeDeleted, hasActivo, hasQuery, null, null),
+                select + where);
+
+        if (hasQuery) {
+            compiled.put(new Shape(Kind.RELEVANCE_PAGE, includeDeleted, hasActivo, true, null, null),
+                    select + where + RELEVANCE_ORDER + " LIMIT :limit OFFSET :offset");
+        }
+
+        for (ClienteSortField sortField : ClienteSortField.values()) {
+            for (Sort.Direction direction : Sort.Direction.values()) {
+                String order = " ORDER BY " + sortField.getColumn() + " " + direction.name()
+                        + ", id " + direction.name();
+                String seekPredicate = "(" + sortField.getColumn() + ", id) "
+                        + (direction.isDescending() ? "<" : ">") + " (:afterValue, :afterId)";
+
+                compiled.put(new Shape(Kind.PAGE, includeDeleted, hasActivo, hasQuery, sortField, direction),
+                        select + where + order + " LIMIT :limit OFFSET :offset");
+                compiled.put(new Shape(Kind.SEEK_FIRST, includeDeleted, hasActivo, hasQuery, sortField, direction),
+                        select + where + order + " LIMIT :limit");
+                compiled.put(new Shape(Kind.SEEK_NEXT, includeDeleted, hasActivo, hasQuery, sortField, direction),
+                        select + where(includeDeleted, hasActivo, hasQuery, seekPredicate) + order + " LIMIT :limit");
+            }
+        }
+    }
+
+    private String compileBulk(ClienteBulkOperation operation, boolean byIds, boolean hasActivo, boolean hasQuery) {
+        String assignment = switch (operation) {
+            case DELETE -> "deleted_at = :now";
+            case ACTIVATE -> "activo = TRUE";
+            case DEACTIVATE -> "activo = FALSE";
+        };
+        String guard = switch (operation) {
+            case DELETE -> null;
+            case ACTIVATE -> "activo = FALSE";
+            case DEACTIVATE -> "activo = TRUE";
+        };
+
+        StringJoiner conditions = new StringJoiner(" AND ", " WHERE ", "");
+        conditions.add("deleted_at IS NULL");
+
+        if (byIds) {
+            conditions.add("id = ANY(CAST(:ids AS uuid[]))");
+        } else {
+            if (hasActivo) {
+                conditions.add("activo = :activo");
+            }
+            if (hasQuery) {
+                conditions.add(SEARCH_PREDICATE);
+            }
+        }
+
+        if (guard != null) {
+            conditions.add(guard);
+        }
+
+        return "UPDATE " + TABLE + " SET " + assignment + ", updated_at = :now, version = version + 1"
+                + conditions + " RETURNING id, version";
+    }
+
+    private String where(boolean includeDeleted, boolean hasActivo, boolean hasQuery, String extra) {
+        StringJoiner conditions = new StringJoiner(" AND ", " WHERE ", "").setEmptyValue("");
+
+        if (!includeDeleted) {
+            conditions.add("deleted_at IS NULL");
+        }
+
+        if (hasActivo) {
+            conditions.add("activo = :activo");
+        }
+
+        if (hasQuery) {
+            conditions.add(SEARCH_PREDICATE);
+        }
+
+        if (extra != null) {
+            conditions.add(extra);
+        }
+
+        return conditions.toString();
+    }
+}
@@ -1,23 +1,90 @@
 package com.agm.clientes.infrastructure.persistence;
 
 import com.agm.clientes.domain.model.Cliente;
+import com.agm.clientes.domain.model.ClienteBulkOperation;
+import com.agm.clientes.domain.model.ClienteCursor;
+import com.agm.clientes.domain.model.ClienteField;
+import com.agm.clientes.domain.model.ClienteSearchHit;
+import com.agm.clientes.domain.model.ClienteSortField;
+import com.agm.clientes.domain.model.ClienteState;
+import com.agm.clientes.domain.model.ClienteVersion;
 import com.agm.clientes.domain.port.out.ClienteRepositoryPort;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.spi.Row;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Sort;
 import org.springframework.r2dbc.core.DatabaseClient;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.UUID;
 
 @Repository
 @RequiredArgsConstructor
 public class ClienteRepositoryImpl implements ClienteRepositoryPort {
 
+    private static final String INSERT_ALL = "INSERT INTO clientes "
+            + "(id, nombre, email, telefono, activo, created_at, updated_at, version) "
+            + "SELECT u.id, u.nombre, u.email, u.telefono, TRUE, :now, :now, 0 "
+            + "FROM UNNEST(CAST(:ids AS uuid[]), CAST(:nombres AS varchar[]), "
+            + "CAST(:emails AS varchar[]), CAST(:telefonos AS varchar[])) AS u(id, nombre, email, telefono) "
+            + "ON CONFLICT DO NOTHING "
+            + "RETURNING " + ClienteQueryCompiler.CLIENTE_COLUMNS;
+    private static final String INSERT_IF_ABSENT = "INSERT INTO clientes "
+            + "(id, nombre, email, telefono, activo, created_at, updated_at, version) "
+            + "VALUES (:id, :nombre, :email, :telefono, :activo, :createdAt, :updatedAt, 0) "
+            + "ON CONFLICT (LOWER(email)) WHERE deleted_at IS NULL DO NOTHING "
+            + "RETURNING " + ClienteQueryCompiler.CLIENTE_COLUMNS;
+    private static final String UPDATE_IF_CURRENT = "UPDATE clientes SET nombre = :nombre, email = :email, "
+            + "telefono = :telefono, activo = :activo, updated_at = :now, version = version + 1 "
+            + "WHERE id = :id AND version = :version AND deleted_at IS NULL "
+            + "RETURNING " + ClienteQueryCompiler.CLIENTE_COLUMNS;
+    private static final String PATCH_IF_CURRENT = "UPDATE clientes SET nombre = COALESCE(:nombre, nombre), "
+            + "email = COALESCE(:email, email), telefono = COALESCE(:telefono, telefono), "
+            + "activo = COALESCE(:activo, activo), updated_at = :now, version = version + 1 "
+            + "WHERE id = :id AND version = :version AND deleted_at IS NULL "
+            + "RETURNING " + ClienteQueryCompiler.CLIENTE_COLUMNS;
+    private static final String UPDATE_ACTIVO = "UPDATE clientes SET activo = :activo, updated_at = :now, "
+            + "version = version + 1 WHERE id = :id AND deleted_at IS NULL "
+            + "RETURNING " + ClienteQueryCompiler.CLIENTE_COLUMNS;
+    private static final String SOFT_DELETE = "UPDATE clientes SET deleted_at = :now, updated_at = :now, "
+            + "version = version + 1 WHERE id = :id AND deleted_at IS NULL "
+            + "RETURNING " + ClienteQueryCompiler.CLIENTE_COLUMNS;
+    private static final String FIND_STATE = "SELECT id, version, deleted_at FROM clientes WHERE id = :id "
+            + "UNION ALL SELECT id, version, deleted_at FROM clientes_archive WHERE id = :id LIMIT 1";
+    private static final String FIND_BY_ID = "SELECT " + ClienteQueryCompiler.CLIENTE_COLUMNS
+            + " FROM clientes WHERE id = :id UNION ALL SELECT " + ClienteQueryCompiler.CLIENTE_COLUMNS
+            + " FROM clientes_archive WHERE id = :id LIMIT 1";
+    private static final String FIND_ALL_BY_ID = "SELECT " + ClienteQueryCompiler.CLIENTE_COLUMNS
+            + " FROM clientes WHERE id = ANY(CAST(:ids AS uuid[])) UNION ALL SELECT "
+            + ClienteQueryCompiler.CLIENTE_COLUMNS + " FROM clientes_archive WHERE id = ANY(CAST(:ids AS uuid[]))";
+    private static final String ARCHIVE_DELETED = "WITH moved AS (DELETE FROM clientes WHERE id IN ("
+            + "SELECT id FROM clientes WHERE deleted_at IS NOT NULL AND deleted_at < :cutoff "
+            + "ORDER BY deleted_at LIMIT :limit FOR UPDATE SKIP LOCKED) "
+            + "RETURNING " + ClienteQueryCompiler.CLIENTE_COLUMNS + "), "
+            + "archived AS (INSERT INTO clientes_archive (" + ClienteQueryCompiler.CLIENTE_COLUMNS + ") "
+            + "SELECT " + ClienteQueryCompiler.CLIENTE_COLUMNS + " FROM moved RETURNING 1) "
+            + "SELECT COUNT(*) FROM archived";
+    private static final String FIND_EXISTING_EMAILS = "SELECT LOWER(email) FROM clientes "
+            + "WHERE LOWER(email) = ANY(CAST(:emails AS varchar[])) AND deleted_at IS NULL";
+
     private final ClienteR2dbcRepository r2dbcRepository;
     private final DatabaseClient databaseClient;
+    private final ClienteQueryCompiler queryCompiler;
+    private final ReadReplicaRouter readRouter;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Value("${export.fetch-size:500}")
+    private int exportFetchSize = 500;
 
     @Override
     public Mono<Cliente> save(Cliente cliente) {
@@ -25,64 +92,214 @@ public class ClienteRepositoryImpl implements ClienteRepositoryPort {
     }
 
     @Override
-    public Mono<Cliente> findById(UUID id) {
-        return r2dbcRepository.findById(id);
+    public Mono<Cliente> insertIfAbsent(Cliente cliente) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(INSERT_IF_ABSENT)
+                .bind("id", cliente.getId())
+                .bind("nombre", cliente.getNombre())
+                .bind("email", cliente.getEmail())
+                .bind("activo", cliente.getActivo())
+                .bind("createdAt", cliente.getCreatedAt())
+                .bind("updatedAt", cliente.getUpdatedAt());
+
+        return bindNullable(spec, "telefono", cliente.getTelefono(), String.class)
+                .map((row, metadata) -> mapRow(row))
+                .one();
     }
 
     @Override
-    public Flux<Cliente> findAll(Boolean activo, Boolean includeDeleted, String query, 
-                                  int page, int size, String sortBy, String sortDirection) {
-        StringBuilder sql = new StringBuilder("SELECT * FROM clientes WHERE 1=1");
-
-        if (!includeDeleted) {
-            sql.append(" AND deleted_at IS NULL");
+    public Flux<Cliente> insertAll(List<Cliente> clientes) {
+        if (clientes.isEmpty()) {
+            return Flux.empty();
         }
 
-        if (activo != null) {
-            sql.append(" AND activo = :activo");
-        }
+        return databaseClient.sql(INSERT_ALL)
+                .bind("ids", clientes.stream().map(Cliente::getId).toArray(UUID[]::new))
+                .bind("nombres", clientes.stream().map(Cliente::getNombre).toArray(String[]::new))
+                .bind("emails", clientes.stream().map(Cliente::getEmail).toArray(String[]::new))
+                .bind("telefonos", clientes.stream().map(Cliente::getTelefono).toArray(String[]::new))
+                .bind("now", LocalDateTime.now())
+                .map((row, metadata) -> mapRow(row))
+                .all();
+    }
 
-        if (query != null && !query.isBlank()) {
-            sql.append(" AND (LOWER(nombre) LIKE :query OR LOWER(email) LIKE :query)");
-        }
+    @Override
+    public Mono<Cliente> updateIfCurrent(Cliente cliente) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(UPDATE_IF_CURRENT)
+                .bind("id", cliente.getId())
+                .bind("version", cliente.getVersion())
+                .bind("nombre", cliente.getNombre())
+                .bind("email", cliente.getEmail())
+                .bind("activo", cliente.getActivo())
+                .bind("now", LocalDateTime.now());
 
-        sql.append(" ORDER BY ").append(sortBy).append(" ").append(sortDirection);
-        sql.append(" LIMIT :limit OFFSET :offset");
+        return bindNullable(spec, "telefono", cliente.getTelefono(), String.class)
+                .map((row, metadata) -> mapRow(row))
+                .one();
+    }
 
-        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+    @Override
+    public Mono<Cliente> patchIfCurrent(Cliente changes) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(PATCH_IF_CURRENT)
+                .bind("id", changes.getId())
+                .bind("version", changes.getVersion())
+                .bind("now", LocalDateTime.now());
 
-        if (activo != null) {
-            spec = spec.bind("activo", activo);
-        }
+        spec = bindNullable(spec, "nombre", changes.getNombre(), String.class);
+        spec = bindNullable(spec, "email", changes.getEmail(), String.class);
+        spec = bindNullable(spec, "telefono", changes.getTelefono(), String.class);
+        spec = bindNullable(spec, "activo", changes.getActivo(), Boolean.class);
 
-        if (query != null && !query.isBlank()) {
-            spec = spec.bind("query", "%" + query.toLowerCase() + "%");
-        }
+        return spec.map((row, metadata) -> mapRow(row)).one();
+    }
+
+    @Override
+    public Mono<Cliente> updateActivo(UUID id, boolean activo) {
+        return databaseClient.sql(UPDATE_ACTIVO)
+                .bind("id", id)
+                .bind("activo", activo)
+                .bind("now", LocalDateTime.now())
+                .map((row, metadata) -> mapRow(row))
+                .one();
+    }
+
+    @Override
+    public Mono<Cliente> softDelete(UUID id) {
+        return databaseClient.sql(SOFT_DELETE)
+                .bind("id", id)
+                .bind("now", LocalDateTime.now())
+                .map((row, metadata) -> mapRow(row))
+                .one();
+    }
 
-        return spec.bind("limit", size)
-                .bind("offset", page * size)
-                .map((row, metadata) -> Cliente.builder()
+    @Override
+    public Mono<ClienteState> findState(UUID id) {
+        return databaseClient.sql(FIND_STATE)
+                .bind("id", id)
+                .map(row -> ClienteState.builder()
                         .id(row.get("id", UUID.class))
-                        .nombre(row.get("nombre", String.class))
-                        .email(row.get("email", String.class))
-                        .telefono(row.get("telefono", String.class))
-                        .activo(row.get("activo", Boolean.class))
-                        .deletedAt(row.get("deleted_at", java.time.LocalDateTime.class))
-                        .createdAt(row.get("created_at", java.time.LocalDateTime.class))
-                        .updatedAt(row.get("updated_at", java.time.LocalDateTime.class))
                         .version(row.get("version", Long.class))
+                        .deletedAt(row.get("deleted_at", LocalDateTime.class))
                         .build())
-                .all();
+                .one();
+    }
+
+    @Override
+    public Mono<Cliente> findById(UUID id) {
+        return readRouter.readOne(client -> client.sql(FIND_BY_ID)
+                .bind("id", id)
+                .map((row, metadata) -> mapRow(row))
+                .one());
     }
 
     @Override
-    public Mono<Boolean> existsByEmailIgnoreCase(String email) {
-        return r2dbcRepository.existsByEmailIgnoreCase(email);
+    public Flux<Cliente> findAllById(Collection<UUID> ids) {
+        if (ids.isEmpty()) {
+            return Flux.empty();
+        }
+
+        return readRouter.readMany(client -> client.sql(FIND_ALL_BY_ID)
+                .bind("ids", ids.toArray(UUID[]::new))
+                .map((row, metadata) -> mapRow(row))
+                .all());
     }
 
     @Override
-    public Mono<Boolean> existsByEmailIgnoreCaseAndIdNot(String email, UUID id) {
-        return r2dbcRepository.existsByEmailIgnoreCaseAndIdNot(email, id);
+    public Flux<Cliente> findAll(Boolean activo, Boolean includeDeleted, String query, long offset, int limit, 
+                                  String sortBy, String sortDirection, Set<ClienteField> fields) {
+        boolean hasQuery = hasText(query);
+        boolean orderByRelevance = hasQuery && ClienteQueryCompiler.RELEVANCE_SORT.equalsIgnoreCase(sortBy);
+
+        String baseSql = orderByRelevance
+                ? queryCompiler.relevancePage(includeDeleted, activo != null)
+                : queryCompiler.page(includeDeleted, activo != null, hasQuery, 
+                        ClienteSortField.from(sortBy), resolveDirection(sortDirection));
+        List<ClienteField> columns = projectedColumns(fields, null);
+        String sql = columns == null ? baseSql : queryCompiler.project(baseSql, columns);
+
+        return readRouter.readMany(client -> {
+            DatabaseClient.GenericExecuteSpec spec = bindFilters(client.sql(sql), activo, query);
+
+            if (orderByRelevance) {
+                spec = spec.bind("term", queryCompiler.term(query));
+            }
+
+            return spec.bind("limit", limit)
+                    .bind("offset", offset)
+                    .map((row, metadata) -> columns == null ? mapRow(row) : mapRow(row, columns))
+                    .all();
+        });
+    }
+
+    @Override
+    public Flux<Cliente> findAllAfter(Boolean activo, Boolean includeDeleted, String query, ClienteCursor after,
+                                       int limit, String sortBy, String sortDirection, Set<ClienteField> fields) {
+        ClienteSortField sortField = ClienteSortField.from(sortBy);
+        String baseSql = queryCompiler.seek(includeDeleted, activo != null, hasText(query), 
+                sortField, resolveDirection(sortDirection), after != null);
+        List<ClienteField> columns = projectedColumns(fields, sortField);
+        String sql = columns == null ? baseSql : queryCompiler.project(baseSql, columns);
+
+        return readRouter.readMany(client -> {
+            DatabaseClient.GenericExecuteSpec spec = bindFilters(client.sql(sql), activo, query);
+
+            if (after != null) {
+                spec = spec.bind("afterValue", sortField.parse(after.getValue()))
+                        .bind("afterId", after.getId());
+            }
+
+            return spec.bind("limit", limit)
+                    .map((row, metadata) -> columns == null ? mapRow(row) : mapRow(row, columns))
+                    .all();
+        });
+    }
+
+    @Override
+    public Flux<Cliente> stream(Boolean activo, Boolean includeDeleted, String query) {
+        String sql = queryCompiler.export(includeDeleted, activo != null, hasText(query));
+
+        return readRouter.readMany(client -> bindFilters(client.sql(sql), activo, query)
+                .filter(statement -> statement.fetchSize(exportFetchSize))
+                .map((row, metadata) -> mapRow(row))
+                .all());
+    }
+
+    @Override
+    public Flux<ClienteSearchHit> search(String query, Boolean activo, ClienteCursor after, int limit) {
+        String sql = queryCompiler.search(activo != null, after != null);
+
+        return readRouter.readMany(client -> {
+            DatabaseClient.GenericExecuteSpec spec = client.sql(sql).bind("query", query.trim());
+
+            if (activo != null) {
+                spec = spec.bind("activo", activo);
+            }
+
+            if (after != null) {
+                spec = spec.bind("afterRank", Float.parseFloat(after.getValue()))
+                        .bind("afterId", after.getId());
+            }
+
+            return spec.bind("limit", limit)
+                    .map((row, metadata) -> ClienteSearchHit.builder()
+                            .cliente(mapRow(row))
+                            .rank(row.get("rank", Float.class))
+                            .build())
+                    .all();
+        });
+    }
+
+    @Override
+    public Flux<String> findExistingEmails(Collection<String> emails) {
+        if (emails.isEmpty()) {
+            return Flux.empty();
+        }
+
+        String[] normalized = emails.stream().map(email -> email.toLowerCase(Locale.ROOT)).toArray(String[]::new);
+
+        return readRouter.readMany(client -> client.sql(FIND_EXISTING_EMAILS)
+                .bind("emails", normalized)
+                .map(row -> row.get(0, String.class))
+                .all());
     }
 
     @Override
@@ -90,33 +307,144 @@ public class ClienteRepositoryImpl implements ClienteRepositoryPort {
         return r2dbcRepository.deleteById(id);
     }
 
+    @Override
+    public Mono<Long> archiveDeleted(LocalDateTime cutoff, int limit) {
+        return databaseClient.sql(ARCHIVE_DELETED)
+                .bind("cutoff", cutoff)
+                .bind("limit", limit)
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    @Override
+    public Flux<ClienteVersion> bulkUpdate(ClienteBulkOperation operation, List<UUID> ids, Boolean activo, String query) {
+        boolean byIds = ids != null;
+        String sql = queryCompiler.bulkUpdate(operation, byIds, activo != null, hasText(query));
+
+        DatabaseClient.GenericExecuteSpec spec = byIds
+                ? databaseClient.sql(sql).bind("ids", ids.toArray(UUID[]::new))
+                : bindFilters(databaseClient.sql(sql), activo, query);
+
+        return spec.bind("now", LocalDateTime.now())
+                .map(row -> ClienteVersion.builder()
+                        .id(row.get("id", UUID.class))
+                        .version(row.get("version", Long.class))
+                        .build())
+                .all();
+    }
+
     @Override
     public Mono<Long> count(Boolean activo, Boolean includeDeleted, String query) {
-        StringBuilder sql = new StringBuilder("SELECT COUNT(*) FROM clientes WHERE 1=1");
+        if (!hasText(query)) {
+            return countFromCounters(activo, includeDeleted);
+        }
+
+        String sql = queryCompiler.count(includeDeleted, activo != null, hasText(query));
+
+        return readRouter.readOne(client -> bindFilters(client.sql(sql), activo, query)
+                .map(row -> row.get(0, Long.class))
+                .one());
+    }
 
-        if (!includeDeleted) {
-            sql.append(" AND deleted_at IS NULL");
+    @Override
+    public Mono<Long> estimateCount(Boolean activo, Boolean includeDeleted, String query) {
+        boolean hasQuery = hasText(query);
+
+        if (!hasQuery) {
+            return countFromCounters(activo, includeDeleted);
         }
 
+        String sql = queryCompiler.estimate(includeDeleted, activo != null, hasQuery);
+
+        return readRouter.readOne(client -> bindFilters(client.sql(sql), activo, query)
+                .map(row -> row.get(0, String.class))
+                .one())
+                .map(this::readPlanRows);
+    }
+
+    private Mono<Long> countFromCounters(Boolean activo, Boolean includeDeleted) {
+        String sql = queryCompiler.counter(includeDeleted, activo != null);
+
+        return readRouter.readOne(client -> bindFilters(client.sql(sql), activo, null)
+                .map(row -> row.get(0, Long.class))
+                .one());
+    }
+
+    private DatabaseClient.GenericExecuteSpec bindFilters(DatabaseClient.GenericExecuteSpec spec, 
+                                                          Boolean activo, String query) {
         if (activo != null) {
-            sql.append(" AND activo = :activo");
+            spec = spec.bind("activo", activo);
         }
 
-        if (query != null && !query.isBlank()) {
-            sql.append(" AND (LOWER(nombre) LIKE :query OR LOWER(email) LIKE :query)");
+        if (hasText(query)) {
+            spec = spec.bind("query", queryCompiler.likePattern(query));
         }
 
-        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        return spec;
+    }
 
-        if (activo != null) {
-            spec = spec.bind("activo", activo);
+    private <T> DatabaseClient.GenericExecuteSpec bindNullable(DatabaseClient.GenericExecuteSpec spec, String name,
+                                                               T value, Class<T> type) {
+        return value == null ? spec.bindNull(name, type) : spec.bind(name, value);
+    }
+
+    private long readPlanRows(String plan) {
+        try {
+            return objectMapper.readTree(plan).path(0).path("Plan").path("Plan Rows").asLong(0);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No se pudo interpretar el plan de ejecución", e);
         }
+    }
+
+    private boolean hasText(String query) {
+        return query != null && !query.isBlank();
+    }
 
-        if (query != null && !query.isBlank()) {
-            spec = spec.bind("query", "%" + query.toLowerCase() + "%");
+    private Sort.Direction resolveDirection(String sortDirection) {
+        return Sort.Direction.fromOptionalString(sortDirection).orElse(Sort.Direction.DESC);
+    }
+
+    private List<ClienteField> projectedColumns(Set<ClienteField> fields, ClienteSortField sortField) {
+        if (fields == null || fields.containsAll(ClienteField.ALL)) {
+            return null;
         }
 
-        return spec.map(row -> row.get(0, Long.class))
-                .one();
+        EnumSet<ClienteField> columns = EnumSet.of(ClienteField.ID);
+        columns.addAll(fields);
+        if (sortField != null) {
+            columns.add(ClienteField.fromProperty(sortField.getProperty()));
+        }
+        return List.copyOf(columns);
+    }
+
+    private Cliente mapRow(Row row, List<ClienteField> columns) {
+        Cliente cliente = new Cliente();
+        for (int index = 0; index < columns.size(); index++) {
+            switch (columns.get(index)) {
+                case ID -> cliente.setId(row.get(index, UUID.class));
+                case NOMBRE -> cliente.setNombre(row.get(index, String.class));
+                case EMAIL -> cliente.setEmail(row.get(index, String.class));
+                case TELEFONO -> cliente.setTelefono(row.get(index, String.class));
+                case ACTIVO -> cliente.setActivo(row.get(index, Boolean.class));
+                case CREATED_AT -> cliente.setCreatedAt(row.get(index, LocalDateTime.class));
+                case UPDATED_AT -> cliente.setUpdatedAt(row.get(index, LocalDateTime.class));
+                case VERSION -> cliente.setVersion(row.get(index, Long.class));
+            }
+        }
+        return cliente;
+    }
+
+    private Cliente mapRow(Row row) {
+        return Cliente.builder()
+                .id(row.get("id", UUID.class))
+                .nombre(row.get("nombre", String.class))
+                .email(row.get("email", String.class))
+                .telefono(row.get("telefono", String.class))
+                .activo(row.get("activo", Boolean.class))
+                .deletedAt(row.get("deleted_at", LocalDateTime.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .version(row.get("version", Long.class))
+                .build();
     }
 }
@@ -0,0 +1,99 @@
+package com.agm.clientes.infrastructure.persistence;
+
+import com.agm.clientes.domain.model.ImportJob;
+import com.agm.clientes.domain.model.ImportJobStatus;
+import com.agm.clientes.domain.port.out.ImportJobRepositoryPort;
+import io.r2dbc.spi.Row;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+@RequiredArgsConstructor
+public class ImportJobRepositoryImpl implements ImportJobRepositoryPort {
+
+    private static final String JOB_COLUMNS =
+            "id, status, received, invalid, staged, inserted, duplicates, errors, failure, started_at, finished_at";
+    private static final String UPSERT = "INSERT INTO clientes_import_jobs (" + JOB_COLUMNS + ", updated_at) "
+            + "VALUES (:id, :status, :received, :invalid, :staged, :inserted, :duplicates, :errors, :failure, "
+            + ":startedAt, :finishedAt, :now) "
+            + "ON CONFLICT (id) DO UPDATE SET status = EXCLUDED.status, received = EXCLUDED.received, "
+            + "invalid = EXCLUDED.invalid, staged = EXCLUDED.staged, inserted = EXCLUDED.inserted, "
+            + "duplicates = EXCLUDED.duplicates, errors = EXCLUDED.errors, failure = EXCLUDED.failure, "
+            + "finished_at = EXCLUDED.finished_at, updated_at = EXCLUDED.updated_at "
+            + "WHERE clientes_import_jobs.status NOT IN ('COMPLETED', 'FAILED')";
+    private static final String FIND_BY_ID = "SELECT " + JOB_COLUMNS + " FROM clientes_import_jobs WHERE id = :id";
+    private static final String FIND_RECENT = "SELECT " + JOB_COLUMNS + " FROM clientes_import_jobs "
+            + "ORDER BY started_at DESC LIMIT :limit";
+
+    private final DatabaseClient databaseClient;
+
+    @Value("${imports.list-limit:100}")
+    private int listLimit = 100;
+
+    @Override
+    public Mono<ImportJob> save(ImportJob job) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(UPSERT)
+                .bind("id", job.getId())
+                .bind("status", job.getStatus().name())
+                .bind("received", job.getReceived())
+                .bind("invalid", job.getInvalid())
+                .bind("staged", job.getStaged())
+                .bind("inserted", job.getInserted())
+                .bind("duplicates", job.getDuplicates())
+                .bind("errors", job.getErrors() == null ? new String[0] : job.getErrors().toArray(String[]::new))
+                .bind("startedAt", job.getStartedAt())
+                .bind("now", LocalDateTime.now());
+
+        spec = bindNullable(spec, "failure", job.getFailure(), String.class);
+        spec = bindNullable(spec, "finishedAt", job.getFinishedAt(), LocalDateTime.class);
+
+        return spec.then().thenReturn(job);
+    }
+
+    @Override
+    public Mono<ImportJob> findById(UUID id) {
+        return databaseClient.sql(FIND_BY_ID)
+                .bind("id", id)
+                .map((row, metadata) -> mapRow(row))
+                .one();
+    }
+
+    @Override
+    public Flux<ImportJob> findAll() {
+        return databaseClient.sql(FIND_RECENT)
+                .bind("limit", listLimit)
+                .map((row, metadata) -> mapRow(row))
+                .all();
+    }
+
+    private <T> DatabaseClient.GenericExecuteSpec bindNullable(DatabaseClient.GenericExecuteSpec spec, String name,
+                                                               T value, Class<T> type) {
+        return value == null ? spec.bindNull(name, type) : spec.bind(name, value);
+    }
+
+    private ImportJob mapRow(Row row) {
+        String[] errors = row.get("errors", String[].class);
+
+        return ImportJob.builder()
+                .id(row.get("id", UUID.class))
+                .status(ImportJobStatus.valueOf(row.get("status", String.class)))
+                .received(row.get("received", Long.class))
+                .invalid(row.get("invalid", Long.class))
+                .staged(row.get("staged", Long.class))
+                .inserted(row.get("inserted", Long.class))
+                .duplicates(row.get("duplicates", Long.class))
+                .errors(errors == null ? List.of() : List.of(errors))
+                .failure(row.get("failure", String.class))
+                .startedAt(row.get("started_at", LocalDateTime.class))
+                .finishedAt(row.get("finished_at", LocalDateTime.class))
+                .build();
+    }
+}
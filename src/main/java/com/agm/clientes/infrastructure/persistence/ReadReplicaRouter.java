@@ -0,0 +1,61 @@
+package com.agm.clientes.infrastructure.persistence;
+
+import com.agm.clientes.domain.model.ReadConsistency;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.context.ContextView;
+
+import java.util.function.Function;
+
+public class ReadReplicaRouter implements DisposableBean {
+
+    private final DatabaseClient primary;
+    private final DatabaseClient replica;
+    private final Disposable replicaPool;
+
+    public ReadReplicaRouter(DatabaseClient primary, DatabaseClient replica, Disposable replicaPool) {
+        this.primary = primary;
+        this.replica = replica;
+        this.replicaPool = replicaPool;
+    }
+
+    public static ReadReplicaRouter primaryOnly(DatabaseClient primary) {
+        return new ReadReplicaRouter(primary, null, null);
+    }
+
+    public boolean isReplicaEnabled() {
+        return replica != null;
+    }
+
+    public <T> Flux<T> readMany(Function<DatabaseClient, Flux<T>> query) {
+        return Flux.deferContextual(context -> query.apply(select(context)));
+    }
+
+    public <T> Mono<T> readOne(Function<DatabaseClient, Mono<T>> query) {
+        return Mono.deferContextual(context -> query.apply(select(context)));
+    }
+
+    public boolean pinsToPrimary(ContextView context) {
+        return replica != null && select(context) == primary;
+    }
+
+    DatabaseClient select(ContextView context) {
+        if (replica == null) {
+            return primary;
+        }
+
+        return context.getOrDefault(ReadConsistency.CONTEXT_KEY, ReadConsistency.ANY) == ReadConsistency.PRIMARY
+                ? primary
+                : replica;
+    }
+
+    @Override
+    public void destroy() {
+        if (replicaPool != null) {
+            replicaPool.dispose();
+        }
+    }
+}
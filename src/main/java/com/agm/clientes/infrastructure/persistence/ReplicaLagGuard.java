@@ -0,0 +1,70 @@
+package com.agm.clientes.infrastructure.persistence;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReplicaLagGuard {
+
+    private static final String WRITE_PREFIX = "replica:write:";
+    private static final String ANONYMOUS = "@anonymous";
+
+    private final ReactiveRedisTemplate<String, String> redisTemplate;
+
+    @Value("${database.replica.lag-guard:5s}")
+    private Duration lagGuard = Duration.ofSeconds(5);
+
+    public Mono<Long> recordWrite(String caller) {
+        long writtenAt = System.currentTimeMillis();
+
+        return redisTemplate.opsForValue()
+                .set(key(caller), Long.toString(writtenAt), lagGuard)
+                .thenReturn(writtenAt)
+                .onErrorResume(error -> {
+                    log.warn("No se pudo registrar la escritura reciente de {}: {}", describe(caller), error.getMessage());
+                    return Mono.just(writtenAt);
+                });
+    }
+
+    public Mono<Boolean> requiresPrimary(String caller, String token) {
+        if (isRecent(token)) {
+            return Mono.just(true);
+        }
+
+        return redisTemplate.hasKey(key(caller))
+                .onErrorResume(error -> {
+                    log.warn("No se pudo consultar la escritura reciente de {}, se usa el primario: {}",
+                            describe(caller), error.getMessage());
+                    return Mono.just(true);
+                });
+    }
+
+    private boolean isRecent(String token) {
+        if (token == null || token.isBlank()) {
+            return false;
+        }
+
+        try {
+            long age = System.currentTimeMillis() - Long.parseLong(token.trim());
+            return age >= 0 && age < lagGuard.toMillis();
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private String key(String caller) {
+        return WRITE_PREFIX + (caller == null ? ANONYMOUS : caller);
+    }
+
+    private String describe(String caller) {
+        return caller == null ? "llamantes anónimos" : caller;
+    }
+}
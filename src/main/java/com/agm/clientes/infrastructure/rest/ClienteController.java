@@ -1,21 +1,38 @@
 package com.agm.clientes.infrastructure.rest;
 
+import com.agm.clientes.application.dto.request.ClienteBatchGetRequest;
+import com.agm.clientes.application.dto.request.ClienteBulkActionRequest;
 import com.agm.clientes.application.dto.request.ClienteCreateRequest;
 import com.agm.clientes.application.dto.request.ClientePatchRequest;
 import com.agm.clientes.application.dto.request.ClienteUpdateRequest;
 import com.agm.clientes.application.dto.response.ApiResponse;
+import com.agm.clientes.application.dto.response.BulkActionResponse;
+import com.agm.clientes.application.dto.response.BulkCreateResponse;
+import com.agm.clientes.application.dto.response.ClienteBatchGetResponse;
 import com.agm.clientes.application.dto.response.ClienteResponse;
+import com.agm.clientes.application.dto.response.ImportJobResponse;
 import com.agm.clientes.application.dto.response.PageResponse;
+import com.agm.clientes.application.mapper.ClienteFieldProjector;
 import com.agm.clientes.application.usecase.*;
+import com.agm.clientes.domain.model.ClienteField;
+import com.agm.clientes.domain.model.CountMode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.StringDecoder;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @RestController
@@ -24,13 +41,23 @@ import java.util.UUID;
 @Tag(name = "Clientes", description = "API para gestión de clientes")
 public class ClienteController {
 
+    private static final StringDecoder LINE_DECODER = StringDecoder.textPlainOnly(List.of("\n"), true);
+
     private final CreateClienteUseCase createClienteUseCase;
     private final GetClienteByIdUseCase getClienteByIdUseCase;
+    private final BatchGetClientesUseCase batchGetClientesUseCase;
     private final ListClientesUseCase listClientesUseCase;
     private final UpdateClienteUseCase updateClienteUseCase;
     private final PatchClienteUseCase patchClienteUseCase;
     private final DeleteClienteUseCase deleteClienteUseCase;
     private final ToggleClienteActivoUseCase toggleClienteActivoUseCase;
+    private final SearchClientesUseCase searchClientesUseCase;
+    private final BulkCreateClientesUseCase bulkCreateClientesUseCase;
+    private final BulkClienteActionUseCase bulkClienteActionUseCase;
+    private final ExportClientesUseCase exportClientesUseCase;
+    private final ImportClientesUseCase importClientesUseCase;
+    private final GetImportJobUseCase getImportJobUseCase;
+    private final ClienteFieldProjector fieldProjector;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -44,37 +71,154 @@ public class ClienteController {
                 ));
     }
 
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Crear clientes masivamente", description = "Crea clientes a partir de un arreglo JSON o un flujo NDJSON e informa los totales y las filas rechazadas")
+    public Mono<ApiResponse<BulkCreateResponse>> bulkCreate(@RequestBody Flux<ClienteCreateRequest> requests) {
+        return bulkCreateClientesUseCase.execute(requests)
+                .map(response -> ApiResponse.success(
+                        HttpStatus.OK.value(),
+                        "Carga masiva procesada",
+                        response
+                ));
+    }
+
+    @PostMapping("/bulk/actions")
+    @Operation(summary = "Acción masiva sobre clientes", description = "Elimina, activa o desactiva clientes por lista de IDs o por filtro en una sola sentencia")
+    public Mono<ApiResponse<BulkActionResponse>> bulkAction(@Valid @RequestBody ClienteBulkActionRequest request) {
+        return bulkClienteActionUseCase.execute(request)
+                .map(response -> ApiResponse.success(
+                        HttpStatus.OK.value(),
+                        "Acción masiva aplicada",
+                        response
+                ));
+    }
+
+    @PostMapping("/batch-get")
+    @Operation(summary = "Obtener clientes por lote", description = "Consulta hasta 500 clientes por ID en el orden solicitado e informa los IDs inexistentes o eliminados")
+    public Mono<ApiResponse<ClienteBatchGetResponse>> batchGet(@Valid @RequestBody ClienteBatchGetRequest request) {
+        return batchGetClientesUseCase.execute(request.getIds())
+                .map(response -> ApiResponse.success(
+                        HttpStatus.OK.value(),
+                        "Consulta por lote procesada",
+                        response
+                ));
+    }
+
+    @PostMapping(value = "/imports", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @Operation(summary = "Importar clientes", description = "Recibe un flujo NDJSON y lo copia directamente a staging mientras se lee el cuerpo; devuelve el ID de la importación al terminar la copia y el merge que descarta emails duplicados se ejecuta en segundo plano")
+    public Mono<ApiResponse<ImportJobResponse>> importClientes(@RequestBody Flux<DataBuffer> body) {
+        Flux<String> lines = LINE_DECODER.decode(body, ResolvableType.forClass(String.class), null, Map.of());
+
+        return importClientesUseCase.execute(lines)
+                .map(response -> ApiResponse.success(
+                        HttpStatus.ACCEPTED.value(),
+                        "Importación aceptada",
+                        response
+                ));
+    }
+
+    @GetMapping("/imports")
+    @Operation(summary = "Listar importaciones", description = "Lista las importaciones recientes con su progreso")
+    public Mono<ApiResponse<List<ImportJobResponse>>> listImports() {
+        return getImportJobUseCase.list()
+                .map(response -> ApiResponse.success(
+                        HttpStatus.OK.value(),
+                        "Importaciones listadas exitosamente",
+                        response
+                ));
+    }
+
+    @GetMapping("/imports/{jobId}")
+    @Operation(summary = "Consultar importación", description = "Consulta el progreso y los errores de una importación")
+    public Mono<ApiResponse<ImportJobResponse>> getImport(
+            @Parameter(description = "ID de la importación") @PathVariable UUID jobId) {
+        return getImportJobUseCase.execute(jobId)
+                .map(response -> ApiResponse.success(
+                        HttpStatus.OK.value(),
+                        "Importación encontrada",
+                        response
+                ));
+    }
+
     @GetMapping("/{id}")
     @Operation(summary = "Obtener cliente por ID", description = "Consulta un cliente específico por su ID")
-    public Mono<ApiResponse<ClienteResponse>> getById(
-            @Parameter(description = "ID del cliente") @PathVariable UUID id) {
+    public Mono<ApiResponse<?>> getById(
+            @Parameter(description = "ID del cliente") @PathVariable UUID id,
+            @Parameter(description = "Campos a incluir separados por coma, por ejemplo id,nombre,activo") @RequestParam(required = false) String fields) {
+        Set<ClienteField> projection = ClienteField.parse(fields);
+
         return getClienteByIdUseCase.execute(id)
                 .map(response -> ApiResponse.success(
                         HttpStatus.OK.value(),
                         "Cliente encontrado",
-                        response
+                        fieldProjector.isFull(projection) ? response : fieldProjector.project(response, projection)
                 ));
     }
 
     @GetMapping
     @Operation(summary = "Listar clientes", description = "Lista todos los clientes con filtros, paginación y ordenamiento")
-    public Mono<ApiResponse<PageResponse<ClienteResponse>>> list(
+    public Mono<ApiResponse<PageResponse<?>>> list(
             @Parameter(description = "Filtrar por estado activo") @RequestParam(required = false) Boolean activo,
             @Parameter(description = "Incluir clientes eliminados") @RequestParam(defaultValue = "false") Boolean includeDeleted,
             @Parameter(description = "Búsqueda por nombre o email") @RequestParam(required = false) String q,
             @Parameter(description = "Número de página") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "Tamaño de página") @RequestParam(defaultValue = "10") int size,
-            @Parameter(description = "Campo de ordenamiento") @RequestParam(defaultValue = "createdAt") String sortBy,
-            @Parameter(description = "Dirección de ordenamiento") @RequestParam(defaultValue = "DESC") String sortDirection) {
+            @Parameter(description = "Campo de ordenamiento: createdAt, updatedAt, nombre, email o relevance (requiere q y paginación offset)") @RequestParam(defaultValue = "createdAt") String sortBy,
+            @Parameter(description = "Dirección de ordenamiento") @RequestParam(defaultValue = "DESC") String sortDirection,
+            @Parameter(description = "Modo de paginación: offset o cursor") @RequestParam(defaultValue = "offset") String pagination,
+            @Parameter(description = "Cursor opaco devuelto en nextCursor") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Estrategia de conteo: exact, estimated o none") @RequestParam(defaultValue = "exact") String countMode,
+            @Parameter(description = "Campos a incluir separados por coma, por ejemplo id,nombre,activo") @RequestParam(required = false) String fields) {
         
-        return listClientesUseCase.execute(activo, includeDeleted, q, page, size, sortBy, sortDirection)
+        CountMode mode = CountMode.from(countMode);
+        Set<ClienteField> projection = ClienteField.parse(fields);
+        Mono<PageResponse<ClienteResponse>> result = "cursor".equalsIgnoreCase(pagination) || cursor != null
+                ? listClientesUseCase.executeWithCursor(activo, includeDeleted, q, cursor, size, sortBy, sortDirection, mode, projection)
+                : listClientesUseCase.execute(activo, includeDeleted, q, page, size, sortBy, sortDirection, mode, projection);
+
+        return result
                 .map(response -> ApiResponse.success(
                         HttpStatus.OK.value(),
                         "Clientes listados exitosamente",
+                        fieldProjector.isFull(projection) ? response : fieldProjector.project(response, projection)
+                ));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Buscar clientes", description = "Búsqueda de texto completo por nombre, email y teléfono ordenada por relevancia")
+    public Mono<ApiResponse<PageResponse<ClienteResponse>>> search(
+            @Parameter(description = "Términos de búsqueda") @RequestParam String q,
+            @Parameter(description = "Filtrar por estado activo") @RequestParam(required = false) Boolean activo,
+            @Parameter(description = "Cursor opaco devuelto en nextCursor") @RequestParam(required = false) String cursor,
+            @Parameter(description = "Tamaño de página") @RequestParam(defaultValue = "10") int size) {
+
+        return searchClientesUseCase.execute(q, activo, cursor, size)
+                .map(response -> ApiResponse.success(
+                        HttpStatus.OK.value(),
+                        "Búsqueda realizada exitosamente",
                         response
                 ));
     }
 
+    @GetMapping(value = "/export", params = "format!=csv", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Exportar clientes", description = "Transmite todos los clientes que cumplen los filtros como NDJSON (Accept: application/x-ndjson); para CSV use format=csv")
+    public Flux<ClienteResponse> export(
+            @Parameter(description = "Filtrar por estado activo") @RequestParam(required = false) Boolean activo,
+            @Parameter(description = "Incluir clientes eliminados") @RequestParam(defaultValue = "false") Boolean includeDeleted,
+            @Parameter(description = "Búsqueda por nombre o email") @RequestParam(required = false) String q) {
+        return exportClientesUseCase.execute(activo, includeDeleted, q);
+    }
+
+    @GetMapping(value = "/export", params = "format=csv", produces = "text/csv")
+    @Operation(summary = "Exportar clientes en CSV", description = "Transmite todos los clientes que cumplen los filtros como CSV")
+    public Flux<String> exportCsv(
+            @Parameter(description = "Filtrar por estado activo") @RequestParam(required = false) Boolean activo,
+            @Parameter(description = "Incluir clientes eliminados") @RequestParam(defaultValue = "false") Boolean includeDeleted,
+            @Parameter(description = "Búsqueda por nombre o email") @RequestParam(required = false) String q) {
+        return exportClientesUseCase.executeCsv(activo, includeDeleted, q);
+    }
+
     @PutMapping("/{id}")
     @Operation(summary = "Actualizar cliente", description = "Actualiza completamente un cliente existente")
     public Mono<ApiResponse<ClienteResponse>> update(
@@ -0,0 +1,26 @@
+package com.agm.clientes.infrastructure.scheduling;
+
+import com.agm.clientes.application.usecase.ArchiveDeletedClientesUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "archive.enabled", havingValue = "true", matchIfMissing = true)
+public class ClienteArchiveScheduler {
+
+    private final ArchiveDeletedClientesUseCase archiveDeletedClientesUseCase;
+
+    @Scheduled(initialDelayString = "${archive.initial-delay:PT5M}", fixedDelayString = "${archive.interval:PT1H}")
+    public void archive() {
+        try {
+            archiveDeletedClientesUseCase.execute().block();
+        } catch (RuntimeException e) {
+            log.error("Error archivando clientes eliminados: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+DROP INDEX IF EXISTS idx_clientes_created_at;
+
+CREATE INDEX idx_clientes_created_at ON clientes(created_at DESC, id DESC);
+CREATE INDEX idx_clientes_updated_at ON clientes(updated_at DESC, id DESC);
+CREATE INDEX idx_clientes_nombre ON clientes(nombre, id);
+CREATE INDEX idx_clientes_email_sort ON clientes(email, id);
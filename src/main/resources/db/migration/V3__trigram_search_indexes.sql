@@ -0,0 +1,4 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_clientes_nombre_trgm ON clientes USING GIN (LOWER(nombre) gin_trgm_ops);
+CREATE INDEX idx_clientes_email_trgm ON clientes USING GIN (LOWER(email) gin_trgm_ops);
@@ -0,0 +1,15 @@
+CREATE EXTENSION IF NOT EXISTS unaccent;
+
+CREATE OR REPLACE FUNCTION clientes_unaccent(text)
+RETURNS text AS $$
+    SELECT public.unaccent('public.unaccent'::regdictionary, $1)
+$$ LANGUAGE sql IMMUTABLE PARALLEL SAFE STRICT;
+
+ALTER TABLE clientes ADD COLUMN search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', clientes_unaccent(coalesce(nombre, ''))), 'A') ||
+        setweight(to_tsvector('simple', clientes_unaccent(coalesce(email, '') || ' ' || translate(coalesce(email, ''), '@._-', '    '))), 'B') ||
+        setweight(to_tsvector('simple', coalesce(telefono, '')), 'C')
+    ) STORED;
+
+CREATE INDEX idx_clientes_search_vector ON clientes USING GIN (search_vector);
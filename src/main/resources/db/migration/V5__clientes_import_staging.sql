@@ -0,0 +1,9 @@
+CREATE UNLOGGED TABLE clientes_import_staging (
+    position BIGSERIAL,
+    job_id UUID NOT NULL,
+    nombre TEXT NOT NULL,
+    email TEXT NOT NULL,
+    telefono TEXT
+);
+
+CREATE INDEX idx_clientes_import_staging_job ON clientes_import_staging(job_id);
@@ -0,0 +1,14 @@
+CREATE TABLE clientes_archive (
+    id UUID PRIMARY KEY,
+    nombre VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    telefono VARCHAR(15),
+    activo BOOLEAN NOT NULL,
+    deleted_at TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    version BIGINT NOT NULL,
+    archived_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_clientes_archive_created_at ON clientes_archive(created_at DESC, id DESC);
@@ -0,0 +1,70 @@
+CREATE TABLE clientes_counters (
+    activo BOOLEAN NOT NULL,
+    deleted BOOLEAN NOT NULL,
+    slot SMALLINT NOT NULL,
+    total BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (activo, deleted, slot)
+);
+
+INSERT INTO clientes_counters (activo, deleted, slot, total)
+SELECT activo, deleted_at IS NOT NULL, 0, COUNT(*)
+FROM (SELECT activo, deleted_at FROM clientes
+      UNION ALL
+      SELECT activo, deleted_at FROM clientes_archive) rows
+GROUP BY activo, deleted_at IS NOT NULL;
+
+CREATE OR REPLACE FUNCTION clientes_counters_apply() RETURNS trigger AS $$
+DECLARE
+    counter_slot SMALLINT := pg_backend_pid() % 16;
+BEGIN
+    IF TG_OP = 'INSERT' THEN
+        INSERT INTO clientes_counters AS c (activo, deleted, slot, total)
+        SELECT activo, deleted_at IS NOT NULL, counter_slot, COUNT(*) FROM new_rows
+        GROUP BY 1, 2
+        ORDER BY 1, 2
+        ON CONFLICT (activo, deleted, slot) DO UPDATE SET total = c.total + EXCLUDED.total;
+    ELSIF TG_OP = 'DELETE' THEN
+        INSERT INTO clientes_counters AS c (activo, deleted, slot, total)
+        SELECT activo, deleted_at IS NOT NULL, counter_slot, -COUNT(*) FROM old_rows
+        GROUP BY 1, 2
+        ORDER BY 1, 2
+        ON CONFLICT (activo, deleted, slot) DO UPDATE SET total = c.total + EXCLUDED.total;
+    ELSE
+        INSERT INTO clientes_counters AS c (activo, deleted, slot, total)
+        SELECT activo, deleted, counter_slot, SUM(delta)
+        FROM (SELECT activo, deleted_at IS NOT NULL AS deleted, 1 AS delta FROM new_rows
+              UNION ALL
+              SELECT activo, deleted_at IS NOT NULL, -1 FROM old_rows) changes
+        GROUP BY activo, deleted
+        HAVING SUM(delta) <> 0
+        ORDER BY activo, deleted
+        ON CONFLICT (activo, deleted, slot) DO UPDATE SET total = c.total + EXCLUDED.total;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_clientes_counters_insert
+    AFTER INSERT ON clientes
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION clientes_counters_apply();
+
+CREATE TRIGGER trg_clientes_counters_update
+    AFTER UPDATE ON clientes
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION clientes_counters_apply();
+
+CREATE TRIGGER trg_clientes_counters_delete
+    AFTER DELETE ON clientes
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION clientes_counters_apply();
+
+CREATE TRIGGER trg_clientes_archive_counters_insert
+    AFTER INSERT ON clientes_archive
+    REFERENCING NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION clientes_counters_apply();
+
+CREATE TRIGGER trg_clientes_archive_counters_delete
+    AFTER DELETE ON clientes_archive
+    REFERENCING OLD TABLE AS old_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION clientes_counters_apply();
@@ -0,0 +1,19 @@
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_clientes_live_activo ON clientes(activo) WHERE deleted_at IS NULL;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_clientes_deleted ON clientes(deleted_at) WHERE deleted_at IS NOT NULL;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_clientes_live_created_at ON clientes(created_at DESC, id DESC) WHERE deleted_at IS NULL;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_clientes_live_updated_at ON clientes(updated_at DESC, id DESC) WHERE deleted_at IS NULL;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_clientes_live_nombre ON clientes(nombre, id) WHERE deleted_at IS NULL;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_clientes_live_email_sort ON clientes(email, id) WHERE deleted_at IS NULL;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_clientes_live_nombre_trgm ON clientes USING GIN (LOWER(nombre) gin_trgm_ops) WHERE deleted_at IS NULL;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_clientes_live_email_trgm ON clientes USING GIN (LOWER(email) gin_trgm_ops) WHERE deleted_at IS NULL;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_clientes_live_search_vector ON clientes USING GIN (search_vector) WHERE deleted_at IS NULL;
+
+DROP INDEX CONCURRENTLY IF EXISTS idx_clientes_activo;
+DROP INDEX CONCURRENTLY IF EXISTS idx_clientes_deleted_at;
+DROP INDEX CONCURRENTLY IF EXISTS idx_clientes_created_at;
+DROP INDEX CONCURRENTLY IF EXISTS idx_clientes_updated_at;
+DROP INDEX CONCURRENTLY IF EXISTS idx_clientes_nombre;
+DROP INDEX CONCURRENTLY IF EXISTS idx_clientes_email_sort;
+DROP INDEX CONCURRENTLY IF EXISTS idx_clientes_nombre_trgm;
+DROP INDEX CONCURRENTLY IF EXISTS idx_clientes_email_trgm;
+DROP INDEX CONCURRENTLY IF EXISTS idx_clientes_search_vector;
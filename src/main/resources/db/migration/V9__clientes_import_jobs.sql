@@ -0,0 +1,16 @@
+CREATE TABLE clientes_import_jobs (
+    id UUID PRIMARY KEY,
+    status VARCHAR(16) NOT NULL,
+    received BIGINT NOT NULL DEFAULT 0,
+    invalid BIGINT NOT NULL DEFAULT 0,
+    staged BIGINT NOT NULL DEFAULT 0,
+    inserted BIGINT NOT NULL DEFAULT 0,
+    duplicates BIGINT NOT NULL DEFAULT 0,
+    errors TEXT[] NOT NULL DEFAULT '{}',
+    failure TEXT,
+    started_at TIMESTAMP NOT NULL,
+    finished_at TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_clientes_import_jobs_started_at ON clientes_import_jobs(started_at DESC);
@@ -0,0 +1,68 @@
+package com.agm.clientes.application.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ClienteCachePropertiesTest {
+
+    @Test
+    void bind_WhenValuesHaveNoUnit_ShouldReadThemAsSeconds() {
+        ClienteCacheProperties properties = bind(Map.of(
+                "cache.ttl", "300",
+                "cache.stale-ttl", "600",
+                "cache.negative-ttl", "30"));
+
+        assertEquals(Duration.ofMinutes(5), properties.getTtl());
+        assertEquals(Duration.ofMinutes(10), properties.getStaleTtl());
+        assertEquals(Duration.ofSeconds(30), properties.getNegativeTtl());
+        assertEquals(Duration.ofMinutes(15), properties.getHardTtl());
+    }
+
+    @Test
+    void bind_WhenValuesHaveUnit_ShouldHonourIt() {
+        ClienteCacheProperties properties = bind(Map.of(
+                "cache.ttl", "5m",
+                "cache.list-ttl", "500ms",
+                "cache.refresh-beta", "2.0"));
+
+        assertEquals(Duration.ofMinutes(5), properties.getTtl());
+        assertEquals(Duration.ofMillis(500), properties.getListTtl());
+        assertEquals(2.0, properties.getRefreshBeta());
+    }
+
+    @Test
+    void bind_ShouldCoverTheWholeCacheTree() {
+        ClienteCacheProperties properties = bind(Map.of(
+                "cache.compression-threshold", "2KB",
+                "cache.invalidation-channel", "canal",
+                "cache.single-flight.distributed-lock", "true",
+                "cache.single-flight.lock-ttl", "3s",
+                "cache.maintenance.capacity", "50",
+                "cache.maintenance.flush-interval", "20ms",
+                "cache.l1.max-size", "16MB",
+                "cache.l1.ttl", "10s"));
+
+        assertEquals(DataSize.ofKilobytes(2), properties.getCompressionThreshold());
+        assertEquals("canal", properties.getInvalidationChannel());
+        assertTrue(properties.getSingleFlight().isDistributedLock());
+        assertEquals(Duration.ofSeconds(3), properties.getSingleFlight().getLockTtl());
+        assertEquals(20, properties.getSingleFlight().getMaxWaitAttempts());
+        assertEquals(50, properties.getMaintenance().getCapacity());
+        assertEquals(Duration.ofMillis(20), properties.getMaintenance().getFlushInterval());
+        assertEquals(DataSize.ofMegabytes(16), properties.getL1().getMaxSize());
+        assertEquals(Duration.ofSeconds(10), properties.getL1().getTtl());
+    }
+
+    private ClienteCacheProperties bind(Map<String, String> values) {
+        return new Binder(new MapConfigurationPropertySource(values))
+                .bindOrCreate("cache", ClienteCacheProperties.class);
+    }
+}
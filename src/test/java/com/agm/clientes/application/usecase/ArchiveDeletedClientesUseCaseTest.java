@@ -0,0 +1,59 @@
+package com.agm.clientes.application.usecase;
+
+import com.agm.clientes.domain.port.out.ClienteRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArchiveDeletedClientesUseCaseTest {
+
+    @Mock
+    private ClienteRepositoryPort clienteRepository;
+
+    @InjectMocks
+    private ArchiveDeletedClientesUseCase archiveDeletedClientesUseCase;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(archiveDeletedClientesUseCase, "batchSize", 2);
+        ReflectionTestUtils.setField(archiveDeletedClientesUseCase, "pause", Duration.ZERO);
+    }
+
+    @Test
+    void execute_WhenBatchesAreFull_ShouldKeepMovingUntilPartialBatch() {
+        when(clienteRepository.archiveDeleted(any(LocalDateTime.class), eq(2)))
+                .thenReturn(Mono.just(2L), Mono.just(2L), Mono.just(1L));
+
+        StepVerifier.create(archiveDeletedClientesUseCase.execute())
+                .expectNext(5L)
+                .verifyComplete();
+
+        verify(clienteRepository, times(3)).archiveDeleted(any(LocalDateTime.class), eq(2));
+    }
+
+    @Test
+    void execute_WhenMaxBatchesReached_ShouldStop() {
+        ReflectionTestUtils.setField(archiveDeletedClientesUseCase, "maxBatches", 2);
+        when(clienteRepository.archiveDeleted(any(LocalDateTime.class), eq(2))).thenReturn(Mono.just(2L));
+
+        StepVerifier.create(archiveDeletedClientesUseCase.execute())
+                .expectNext(4L)
+                .verifyComplete();
+
+        verify(clienteRepository, times(2)).archiveDeleted(any(LocalDateTime.class), eq(2));
+    }
+}
@@ -0,0 +1,140 @@
+package com.agm.clientes.application.usecase;
+
+import com.agm.clientes.application.config.ClienteCacheProperties;
+import com.agm.clientes.application.dto.response.ClienteResponse;
+import com.agm.clientes.application.mapper.ClienteMapper;
+import com.agm.clientes.domain.model.CacheLookup;
+import com.agm.clientes.domain.model.Cliente;
+import com.agm.clientes.domain.port.out.CacheMaintenancePort;
+import com.agm.clientes.domain.port.out.CachePort;
+import com.agm.clientes.domain.port.out.ClienteRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BatchGetClientesUseCaseTest {
+
+    @Mock
+    private ClienteRepositoryPort clienteRepository;
+
+    @Mock
+    private CachePort cachePort;
+
+    @Mock
+    private CacheMaintenancePort cacheMaintenance;
+
+    @Spy
+    private ClienteMapper clienteMapper = Mappers.getMapper(ClienteMapper.class);
+
+    @Spy
+    private ClienteCacheProperties cacheProperties = new ClienteCacheProperties();
+
+    @InjectMocks
+    private BatchGetClientesUseCase batchGetClientesUseCase;
+
+    private Cliente cached;
+    private Cliente loaded;
+    private Cliente deleted;
+
+    @BeforeEach
+    void setUp() {
+        cached = cliente("Juan Perez");
+        loaded = cliente("Ana Gomez");
+        deleted = cliente("Luis Diaz");
+        deleted.setDeletedAt(LocalDateTime.now());
+    }
+
+    @Test
+    void execute_ShouldResolveCacheAndDatabaseInRequestOrderAndBackfillMarkers() {
+        UUID unknown = UUID.randomUUID();
+        List<UUID> ids = List.of(loaded.getId(), unknown, cached.getId(), deleted.getId(), loaded.getId());
+
+        when(cachePort.lookupAll(anyList(), eq(Cliente.class)))
+                .thenReturn(Mono.just(Map.of("cliente:" + cached.getId(), CacheLookup.hit(cached))));
+        when(clienteRepository.findAllById(List.of(loaded.getId(), unknown, deleted.getId())))
+                .thenReturn(Flux.just(deleted, loaded));
+        when(cacheMaintenance.write(anyString(), any(), anyLong(), any(Duration.class), any(Duration.class),
+                any(Duration.class))).thenReturn(Mono.empty());
+        when(cacheMaintenance.markDeleted(anyString(), any(Duration.class))).thenReturn(Mono.empty());
+        when(cacheMaintenance.markNotFound(anyString(), any(Duration.class))).thenReturn(Mono.empty());
+
+        StepVerifier.create(batchGetClientesUseCase.execute(ids))
+                .assertNext(response -> {
+                    assertEquals(List.of(loaded.getId(), cached.getId()),
+                            response.getClientes().stream().map(ClienteResponse::getId).toList());
+                    assertEquals(List.of(unknown), response.getNotFound());
+                    assertEquals(List.of(deleted.getId()), response.getDeleted());
+                })
+                .verifyComplete();
+
+        verify(cachePort).lookupAll(List.of("cliente:" + loaded.getId(), "cliente:" + unknown,
+                "cliente:" + cached.getId(), "cliente:" + deleted.getId()), Cliente.class);
+        verify(cacheMaintenance).write(eq("cliente:" + loaded.getId()), eq(loaded), eq(0L), eq(Duration.ofMinutes(5)),
+                eq(Duration.ofMinutes(15)), any(Duration.class));
+        verify(cacheMaintenance, times(1)).write(anyString(), any(), anyLong(), any(), any(), any());
+        verify(cacheMaintenance).markDeleted("cliente:" + deleted.getId(), Duration.ofMinutes(5));
+        verify(cacheMaintenance).markNotFound("cliente:" + unknown, Duration.ofSeconds(30));
+    }
+
+    @Test
+    void execute_WhenCachedEntryIsStale_ShouldServeItAndRefreshInBackground() {
+        when(cachePort.lookupAll(anyList(), eq(Cliente.class))).thenReturn(Mono.just(Map.of(
+                "cliente:" + cached.getId(), CacheLookup.hit(cached, 1L, 0L, 0L))));
+        when(clienteRepository.findAllById(List.of(cached.getId()))).thenReturn(Flux.just(cached));
+        when(cacheMaintenance.write(anyString(), any(), anyLong(), any(Duration.class), any(Duration.class),
+                any(Duration.class))).thenReturn(Mono.empty());
+
+        StepVerifier.create(batchGetClientesUseCase.execute(List.of(cached.getId())))
+                .assertNext(response -> assertEquals(1, response.getClientes().size()))
+                .verifyComplete();
+
+        verify(clienteRepository).findAllById(List.of(cached.getId()));
+        verify(cacheMaintenance).write(eq("cliente:" + cached.getId()), eq(cached), eq(0L), any(), any(), any());
+    }
+
+    @Test
+    void execute_WhenAllCached_ShouldNotQueryDatabase() {
+        when(cachePort.lookupAll(anyList(), eq(Cliente.class))).thenReturn(Mono.just(Map.of(
+                "cliente:" + cached.getId(), CacheLookup.hit(cached),
+                "cliente:" + deleted.getId(), CacheLookup.deleted())));
+
+        StepVerifier.create(batchGetClientesUseCase.execute(List.of(cached.getId(), deleted.getId())))
+                .assertNext(response -> {
+                    assertEquals(1, response.getClientes().size());
+                    assertEquals(List.of(deleted.getId()), response.getDeleted());
+                })
+                .verifyComplete();
+
+        verify(clienteRepository, never()).findAllById(any());
+        verifyNoInteractions(cacheMaintenance);
+    }
+
+    private Cliente cliente(String nombre) {
+        return Cliente.builder()
+                .id(UUID.randomUUID())
+                .nombre(nombre)
+                .email(nombre.toLowerCase().replace(' ', '.') + "@example.com")
+                .activo(true)
+                .version(0L)
+                .build();
+    }
+}
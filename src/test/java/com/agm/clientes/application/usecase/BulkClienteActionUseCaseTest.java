@@ -0,0 +1,75 @@
+package com.agm.clientes.application.usecase;
+
+import com.agm.clientes.application.dto.request.ClienteBulkActionRequest;
+import com.agm.clientes.application.dto.request.ClienteFilterRequest;
+import com.agm.clientes.domain.model.ClienteBulkOperation;
+import com.agm.clientes.domain.model.ClienteVersion;
+import com.agm.clientes.domain.port.out.CacheMaintenancePort;
+import com.agm.clientes.domain.port.out.ClienteRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkClienteActionUseCaseTest {
+
+    @Mock
+    private ClienteRepositoryPort clienteRepository;
+
+    @Mock
+    private CacheMaintenancePort cacheMaintenance;
+
+    @InjectMocks
+    private BulkClienteActionUseCase bulkClienteActionUseCase;
+
+    @Test
+    void execute_WhenIdsProvided_ShouldUpdateByIdsAndInvalidateInBatch() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        ClienteBulkActionRequest request = ClienteBulkActionRequest.builder()
+                .action(ClienteBulkOperation.DEACTIVATE)
+                .ids(List.of(first, second))
+                .build();
+
+        when(clienteRepository.bulkUpdate(eq(ClienteBulkOperation.DEACTIVATE), anyList(), isNull(), isNull()))
+                .thenReturn(Flux.just(new ClienteVersion(first, 3L), new ClienteVersion(second, 1L)));
+        when(cacheMaintenance.evict(anyCollection())).thenReturn(Mono.empty());
+        when(cacheMaintenance.bumpGeneration(anyString())).thenReturn(Mono.empty());
+
+        StepVerifier.create(bulkClienteActionUseCase.execute(request))
+                .expectNextMatches(response -> response.getAffected() == 2
+                        && response.getClientes().get(0).getVersion() == 3L)
+                .verifyComplete();
+
+        verify(cacheMaintenance).evict(List.of("cliente:" + first, "cliente:" + second));
+        verify(cacheMaintenance, times(1)).bumpGeneration("clientes:list");
+    }
+
+    @Test
+    void execute_WhenFilterMatchesNothing_ShouldSkipCacheInvalidation() {
+        ClienteBulkActionRequest request = ClienteBulkActionRequest.builder()
+                .action(ClienteBulkOperation.DELETE)
+                .filter(ClienteFilterRequest.builder().activo(false).q("acme").build())
+                .build();
+
+        when(clienteRepository.bulkUpdate(ClienteBulkOperation.DELETE, null, false, "acme"))
+                .thenReturn(Flux.empty());
+
+        StepVerifier.create(bulkClienteActionUseCase.execute(request))
+                .expectNextMatches(response -> response.getAffected() == 0)
+                .verifyComplete();
+
+        verifyNoInteractions(cacheMaintenance);
+    }
+}
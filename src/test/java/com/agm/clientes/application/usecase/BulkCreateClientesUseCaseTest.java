@@ -0,0 +1,150 @@
+package com.agm.clientes.application.usecase;
+
+import com.agm.clientes.application.dto.request.ClienteCreateRequest;
+import com.agm.clientes.application.dto.response.BulkCreateItemResult;
+import com.agm.clientes.application.dto.response.BulkCreateResponse;
+import com.agm.clientes.application.dto.response.BulkItemStatus;
+import com.agm.clientes.application.mapper.ClienteMapper;
+import com.agm.clientes.domain.model.Cliente;
+import com.agm.clientes.domain.model.ReadConsistency;
+import com.agm.clientes.domain.port.out.CacheMaintenancePort;
+import com.agm.clientes.domain.port.out.ClienteRepositoryPort;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BulkCreateClientesUseCaseTest {
+
+    @Mock
+    private ClienteRepositoryPort clienteRepository;
+
+    @Mock
+    private CacheMaintenancePort cacheMaintenance;
+
+    @Mock
+    private ClienteMapper clienteMapper;
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @InjectMocks
+    private BulkCreateClientesUseCase bulkCreateClientesUseCase;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(bulkCreateClientesUseCase, "batchSize", 2);
+        lenient().when(clienteMapper.toEntity(any(ClienteCreateRequest.class))).thenAnswer(invocation -> {
+            ClienteCreateRequest request = invocation.getArgument(0);
+            return Cliente.builder()
+                    .nombre(request.getNombre())
+                    .email(request.getEmail())
+                    .telefono(request.getTelefono())
+                    .activo(true)
+                    .build();
+        });
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void execute_WhenMixedRows_ShouldReportTotalsAndOnlyFailedRows() {
+        when(clienteRepository.findExistingEmails(anyCollection()))
+                .thenReturn(primaryOnly("ana@example.com"), primaryOnly("juan@example.com"));
+        when(clienteRepository.insertAll(anyList()))
+                .thenAnswer(invocation -> Flux.fromIterable((List<Cliente>) invocation.getArgument(0)));
+        when(cacheMaintenance.bumpGeneration(anyString())).thenReturn(Mono.empty());
+
+        Flux<ClienteCreateRequest> requests = Flux.just(
+                request("Juan Perez", "juan@example.com"),
+                request("Ana Lopez", "ana@example.com"),
+                request("X", "no-es-email"),
+                request("Juan Otro", "JUAN@example.com"));
+
+        StepVerifier.create(bulkCreateClientesUseCase.execute(requests))
+                .assertNext(response -> {
+                    assertEquals(4, response.getTotal());
+                    assertEquals(1, response.getCreated());
+                    assertEquals(2, response.getDuplicates());
+                    assertEquals(1, response.getInvalid());
+                    assertEquals(List.of(1L, 2L, 3L),
+                            response.getFailures().stream().map(BulkCreateItemResult::getIndex).toList());
+                    assertEquals(List.of(BulkItemStatus.DUPLICATE, BulkItemStatus.INVALID, BulkItemStatus.DUPLICATE),
+                            response.getFailures().stream().map(BulkCreateItemResult::getStatus).toList());
+                })
+                .verifyComplete();
+
+        verify(clienteRepository, times(2)).findExistingEmails(anyCollection());
+        verify(clienteRepository, times(1)).insertAll(anyList());
+        verify(cacheMaintenance, times(1)).bumpGeneration("clientes:list");
+    }
+
+    @Test
+    void execute_WhenInsertSkipsConflictingRow_ShouldReportDuplicate() {
+        when(clienteRepository.findExistingEmails(anyCollection())).thenReturn(Flux.empty());
+        when(clienteRepository.insertAll(anyList())).thenReturn(Flux.empty());
+        when(cacheMaintenance.bumpGeneration(anyString())).thenReturn(Mono.empty());
+
+        StepVerifier.create(bulkCreateClientesUseCase.execute(Flux.just(request("Juan Perez", "juan@example.com"))))
+                .expectNextMatches((BulkCreateResponse response) -> response.getCreated() == 0
+                        && response.getFailures().get(0).getStatus() == BulkItemStatus.DUPLICATE)
+                .verifyComplete();
+    }
+
+    @Test
+    void execute_WhenColumnsExceedLength_ShouldReportInvalidWithoutInserting() {
+        StepVerifier.create(bulkCreateClientesUseCase.execute(Flux.just(
+                        request("N".repeat(256), "largo@example.com"),
+                        request("Juan Perez", "a".repeat(250) + "@example.com"))))
+                .assertNext(response -> {
+                    assertEquals(2, response.getInvalid());
+                    assertEquals(0, response.getCreated());
+                })
+                .verifyComplete();
+
+        verify(clienteRepository, never()).insertAll(anyList());
+    }
+
+    @Test
+    void execute_WhenFailuresExceedLimit_ShouldKeepCountingWithoutRetainingRows() {
+        ReflectionTestUtils.setField(bulkCreateClientesUseCase, "maxReportedFailures", 1);
+
+        StepVerifier.create(bulkCreateClientesUseCase.execute(Flux.just(
+                        request("X", "no-es-email"),
+                        request("Y", "tampoco"),
+                        request("Z", "nada"))))
+                .assertNext(response -> {
+                    assertEquals(3, response.getTotal());
+                    assertEquals(3, response.getInvalid());
+                    assertEquals(1, response.getFailures().size());
+                })
+                .verifyComplete();
+    }
+
+    private Flux<String> primaryOnly(String email) {
+        return Flux.deferContextual(context -> context.getOrDefault(ReadConsistency.CONTEXT_KEY,
+                ReadConsistency.ANY) == ReadConsistency.PRIMARY ? Flux.just(email) : Flux.empty());
+    }
+
+    private ClienteCreateRequest request(String nombre, String email) {
+        return ClienteCreateRequest.builder()
+                .nombre(nombre)
+                .email(email)
+                .build();
+    }
+}
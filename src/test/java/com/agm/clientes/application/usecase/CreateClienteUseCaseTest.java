@@ -1,17 +1,19 @@
 package com.agm.clientes.application.usecase;
 
+import com.agm.clientes.application.config.ClienteCacheProperties;
 import com.agm.clientes.application.dto.request.ClienteCreateRequest;
 import com.agm.clientes.application.dto.response.ClienteResponse;
 import com.agm.clientes.application.mapper.ClienteMapper;
 import com.agm.clientes.domain.exception.DuplicateEmailException;
 import com.agm.clientes.domain.model.Cliente;
-import com.agm.clientes.domain.port.out.CachePort;
+import com.agm.clientes.domain.port.out.CacheMaintenancePort;
 import com.agm.clientes.domain.port.out.ClienteRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -29,11 +31,14 @@ class CreateClienteUseCaseTest {
     private ClienteRepositoryPort clienteRepository;
 
     @Mock
-    private CachePort cachePort;
+    private CacheMaintenancePort cacheMaintenance;
 
     @Mock
     private ClienteMapper clienteMapper;
 
+    @Spy
+    private ClienteCacheProperties cacheProperties = new ClienteCacheProperties();
+
     @InjectMocks
     private CreateClienteUseCase createClienteUseCase;
 
@@ -70,32 +75,34 @@ class CreateClienteUseCaseTest {
 
     @Test
     void execute_WhenEmailNotExists_ShouldCreateCliente() {
-        when(clienteRepository.existsByEmailIgnoreCase(anyString())).thenReturn(Mono.just(false));
         when(clienteMapper.toEntity(any(ClienteCreateRequest.class))).thenReturn(cliente);
-        when(clienteRepository.save(any(Cliente.class))).thenReturn(Mono.just(cliente));
-        when(cachePort.set(anyString(), any(), any(Duration.class))).thenReturn(Mono.just(true));
-        when(cachePort.deleteByPattern(anyString())).thenReturn(Mono.just(true));
+        when(clienteRepository.insertIfAbsent(any(Cliente.class))).thenReturn(Mono.just(cliente));
+        when(cacheMaintenance.write(anyString(), any(), anyLong(), any(Duration.class), any(Duration.class), any(Duration.class)))
+                .thenReturn(Mono.empty());
+        when(cacheMaintenance.bumpGeneration(anyString())).thenReturn(Mono.empty());
         when(clienteMapper.toResponse(any(Cliente.class))).thenReturn(response);
 
         StepVerifier.create(createClienteUseCase.execute(request))
                 .expectNext(response)
                 .verifyComplete();
 
-        verify(clienteRepository).existsByEmailIgnoreCase("juan@example.com");
-        verify(clienteRepository).save(any(Cliente.class));
-        verify(cachePort).set(anyString(), any(), any(Duration.class));
-        verify(cachePort).deleteByPattern("clientes:list:*");
+        verify(clienteRepository).insertIfAbsent(any(Cliente.class));
+        verify(cacheMaintenance).write(anyString(), any(), eq(0L), eq(Duration.ofMinutes(5)), eq(Duration.ofMinutes(15)),
+                eq(Duration.ZERO));
+        verify(cacheMaintenance).bumpGeneration("clientes:list");
     }
 
     @Test
     void execute_WhenEmailExists_ShouldThrowDuplicateEmailException() {
-        when(clienteRepository.existsByEmailIgnoreCase(anyString())).thenReturn(Mono.just(true));
+        when(clienteMapper.toEntity(any(ClienteCreateRequest.class))).thenReturn(cliente);
+        when(clienteRepository.insertIfAbsent(any(Cliente.class))).thenReturn(Mono.empty());
 
         StepVerifier.create(createClienteUseCase.execute(request))
                 .expectError(DuplicateEmailException.class)
                 .verify();
 
-        verify(clienteRepository).existsByEmailIgnoreCase("juan@example.com");
-        verify(clienteRepository, never()).save(any(Cliente.class));
+        verify(clienteRepository).insertIfAbsent(any(Cliente.class));
+        verify(cacheMaintenance, never()).write(anyString(), any(), anyLong(), any(), any(), any());
+        verify(cacheMaintenance, never()).bumpGeneration(anyString());
     }
 }
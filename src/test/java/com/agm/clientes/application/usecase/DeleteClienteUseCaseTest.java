@@ -1,18 +1,23 @@
 package com.agm.clientes.application.usecase;
 
+import com.agm.clientes.application.config.ClienteCacheProperties;
 import com.agm.clientes.domain.exception.ClienteNotFoundException;
 import com.agm.clientes.domain.model.Cliente;
-import com.agm.clientes.domain.port.out.CachePort;
+import com.agm.clientes.domain.model.ClienteState;
+import com.agm.clientes.domain.port.out.CacheMaintenancePort;
 import com.agm.clientes.domain.port.out.ClienteRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -26,7 +31,10 @@ class DeleteClienteUseCaseTest {
     private ClienteRepositoryPort clienteRepository;
 
     @Mock
-    private CachePort cachePort;
+    private CacheMaintenancePort cacheMaintenance;
+
+    @Spy
+    private ClienteCacheProperties cacheProperties = new ClienteCacheProperties();
 
     @InjectMocks
     private DeleteClienteUseCase deleteClienteUseCase;
@@ -50,29 +58,44 @@ class DeleteClienteUseCaseTest {
 
     @Test
     void execute_WhenClienteExists_ShouldDeleteLogically() {
-        when(clienteRepository.findById(any(UUID.class))).thenReturn(Mono.just(cliente));
-        when(clienteRepository.save(any(Cliente.class))).thenReturn(Mono.just(cliente));
-        when(cachePort.delete(anyString())).thenReturn(Mono.just(true));
-        when(cachePort.deleteByPattern(anyString())).thenReturn(Mono.just(true));
+        when(clienteRepository.softDelete(any(UUID.class))).thenReturn(Mono.just(cliente));
+        when(cacheMaintenance.markDeleted(anyString(), any(Duration.class))).thenReturn(Mono.empty());
+        when(cacheMaintenance.bumpGeneration(anyString())).thenReturn(Mono.empty());
 
         StepVerifier.create(deleteClienteUseCase.execute(clienteId))
                 .verifyComplete();
 
-        verify(clienteRepository).findById(clienteId);
-        verify(clienteRepository).save(any(Cliente.class));
-        verify(cachePort).delete("cliente:" + clienteId);
-        verify(cachePort).deleteByPattern("clientes:list:*");
+        verify(clienteRepository).softDelete(clienteId);
+        verify(clienteRepository, never()).findState(any(UUID.class));
+        verify(cacheMaintenance).markDeleted("cliente:" + clienteId, Duration.ofMinutes(5));
+        verify(cacheMaintenance).bumpGeneration("clientes:list");
+    }
+
+    @Test
+    void execute_WhenClienteAlreadyDeleted_ShouldCompleteWithoutError() {
+        when(clienteRepository.softDelete(any(UUID.class))).thenReturn(Mono.empty());
+        when(clienteRepository.findState(any(UUID.class))).thenReturn(Mono.just(ClienteState.builder()
+                .id(clienteId)
+                .version(1L)
+                .deletedAt(LocalDateTime.now())
+                .build()));
+        when(cacheMaintenance.markDeleted(anyString(), any(Duration.class))).thenReturn(Mono.empty());
+        when(cacheMaintenance.bumpGeneration(anyString())).thenReturn(Mono.empty());
+
+        StepVerifier.create(deleteClienteUseCase.execute(clienteId))
+                .verifyComplete();
     }
 
     @Test
     void execute_WhenClienteNotFound_ShouldThrowNotFoundException() {
-        when(clienteRepository.findById(any(UUID.class))).thenReturn(Mono.empty());
+        when(clienteRepository.softDelete(any(UUID.class))).thenReturn(Mono.empty());
+        when(clienteRepository.findState(any(UUID.class))).thenReturn(Mono.empty());
 
         StepVerifier.create(deleteClienteUseCase.execute(clienteId))
                 .expectError(ClienteNotFoundException.class)
                 .verify();
 
-        verify(clienteRepository).findById(clienteId);
-        verify(clienteRepository, never()).save(any());
+        verify(clienteRepository).softDelete(clienteId);
+        verify(cacheMaintenance, never()).markDeleted(anyString(), any(Duration.class));
     }
 }
@@ -0,0 +1,86 @@
+package com.agm.clientes.application.usecase;
+
+import com.agm.clientes.application.dto.response.ClienteResponse;
+import com.agm.clientes.application.mapper.ClienteMapper;
+import com.agm.clientes.domain.model.Cliente;
+import com.agm.clientes.domain.port.out.ClienteRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportClientesUseCaseTest {
+
+    @Mock
+    private ClienteRepositoryPort clienteRepository;
+
+    @Mock
+    private ClienteMapper clienteMapper;
+
+    @InjectMocks
+    private ExportClientesUseCase exportClientesUseCase;
+
+    private Cliente cliente;
+    private ClienteResponse clienteResponse;
+
+    @BeforeEach
+    void setUp() {
+        UUID id = UUID.fromString("5b1f6a4e-0d7c-4a59-9b53-2f0a1f1c9e11");
+        LocalDateTime now = LocalDateTime.of(2024, 3, 1, 8, 30, 15);
+
+        cliente = Cliente.builder()
+                .id(id)
+                .nombre("Perez, \"Juan\"")
+                .email("juan@example.com")
+                .activo(true)
+                .createdAt(now)
+                .updatedAt(now)
+                .version(2L)
+                .build();
+
+        clienteResponse = ClienteResponse.builder()
+                .id(id)
+                .nombre(cliente.getNombre())
+                .email(cliente.getEmail())
+                .activo(true)
+                .createdAt(now)
+                .updatedAt(now)
+                .version(2L)
+                .build();
+    }
+
+    @Test
+    void execute_ShouldStreamMappedClientesWithFilters() {
+        when(clienteRepository.stream(true, false, "juan")).thenReturn(Flux.just(cliente));
+        when(clienteMapper.toResponse(any(Cliente.class))).thenReturn(clienteResponse);
+
+        StepVerifier.create(exportClientesUseCase.execute(true, false, "juan"))
+                .expectNext(clienteResponse)
+                .verifyComplete();
+
+        verify(clienteRepository).stream(true, false, "juan");
+    }
+
+    @Test
+    void executeCsv_ShouldEmitHeaderAndEscapedRows() {
+        when(clienteRepository.stream(null, false, null)).thenReturn(Flux.just(cliente));
+        when(clienteMapper.toResponse(any(Cliente.class))).thenReturn(clienteResponse);
+
+        StepVerifier.create(exportClientesUseCase.executeCsv(null, false, null))
+                .expectNext("id,nombre,email,telefono,activo,createdAt,updatedAt,version\n")
+                .expectNext("5b1f6a4e-0d7c-4a59-9b53-2f0a1f1c9e11,\"Perez, \"\"Juan\"\"\",juan@example.com,,true,"
+                        + "2024-03-01T08:30:15,2024-03-01T08:30:15,2\n")
+                .verifyComplete();
+    }
+}
@@ -1,23 +1,30 @@
 package com.agm.clientes.application.usecase;
 
+import com.agm.clientes.application.config.ClienteCacheProperties;
 import com.agm.clientes.application.dto.response.ClienteResponse;
 import com.agm.clientes.application.mapper.ClienteMapper;
 import com.agm.clientes.domain.exception.ClienteDeletedException;
 import com.agm.clientes.domain.exception.ClienteNotFoundException;
+import com.agm.clientes.domain.model.CacheLookup;
 import com.agm.clientes.domain.model.Cliente;
+import com.agm.clientes.domain.port.out.CacheMaintenancePort;
 import com.agm.clientes.domain.port.out.CachePort;
 import com.agm.clientes.domain.port.out.ClienteRepositoryPort;
+import com.agm.clientes.domain.port.out.SingleFlightPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -31,9 +38,18 @@ class GetClienteByIdUseCaseTest {
     @Mock
     private CachePort cachePort;
 
+    @Mock
+    private CacheMaintenancePort cacheMaintenance;
+
     @Mock
     private ClienteMapper clienteMapper;
 
+    @Mock
+    private SingleFlightPort singleFlight;
+
+    @Spy
+    private ClienteCacheProperties cacheProperties = new ClienteCacheProperties();
+
     @InjectMocks
     private GetClienteByIdUseCase getClienteByIdUseCase;
 
@@ -62,26 +78,30 @@ class GetClienteByIdUseCaseTest {
                 .activo(true)
                 .version(0L)
                 .build();
+
+        lenient().when(singleFlight.execute(anyString(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<Mono<?>>>getArgument(2).get());
     }
 
     @Test
     void execute_WhenClienteExistsInCache_ShouldReturnFromCache() {
-        when(cachePort.get(anyString(), eq(Cliente.class))).thenReturn(Mono.just(cliente));
+        when(cachePort.lookup(anyString(), eq(Cliente.class))).thenReturn(Mono.just(CacheLookup.hit(cliente)));
         when(clienteMapper.toResponse(any(Cliente.class))).thenReturn(response);
 
         StepVerifier.create(getClienteByIdUseCase.execute(clienteId))
                 .expectNext(response)
                 .verifyComplete();
 
-        verify(cachePort).get("cliente:" + clienteId, Cliente.class);
+        verify(cachePort).lookup("cliente:" + clienteId, Cliente.class);
         verify(clienteRepository, never()).findById(any());
     }
 
     @Test
     void execute_WhenClienteNotInCache_ShouldReturnFromDatabase() {
-        when(cachePort.get(anyString(), eq(Cliente.class))).thenReturn(Mono.empty());
+        when(cachePort.lookup(anyString(), eq(Cliente.class))).thenReturn(Mono.empty());
         when(clienteRepository.findById(any(UUID.class))).thenReturn(Mono.just(cliente));
-        when(cachePort.set(anyString(), any(), any())).thenReturn(Mono.just(true));
+        when(cachePort.setIfNewer(anyString(), any(), anyLong(), any(Duration.class), any(Duration.class), any(Duration.class)))
+                .thenReturn(Mono.just(true));
         when(clienteMapper.toResponse(any(Cliente.class))).thenReturn(response);
 
         StepVerifier.create(getClienteByIdUseCase.execute(clienteId))
@@ -89,27 +109,122 @@ class GetClienteByIdUseCaseTest {
                 .verifyComplete();
 
         verify(clienteRepository).findById(clienteId);
-        verify(cachePort).set(anyString(), any(), any());
+        verify(cachePort).setIfNewer(eq("cliente:" + clienteId), eq(cliente), eq(0L), eq(Duration.ofMinutes(5)),
+                eq(Duration.ofMinutes(15)), any(Duration.class));
+        verifyNoInteractions(cacheMaintenance);
+    }
+
+    @Test
+    void execute_WhenWriteThroughFails_ShouldQueueFill() {
+        when(cachePort.lookup(anyString(), eq(Cliente.class))).thenReturn(Mono.empty());
+        when(clienteRepository.findById(any(UUID.class))).thenReturn(Mono.just(cliente));
+        when(cachePort.setIfNewer(anyString(), any(), anyLong(), any(Duration.class), any(Duration.class), any(Duration.class)))
+                .thenReturn(Mono.error(new IllegalStateException("sin conexión")));
+        when(cacheMaintenance.write(anyString(), any(), anyLong(), any(Duration.class), any(Duration.class), any(Duration.class)))
+                .thenReturn(Mono.empty());
+        when(clienteMapper.toResponse(any(Cliente.class))).thenReturn(response);
+
+        StepVerifier.create(getClienteByIdUseCase.execute(clienteId))
+                .expectNext(response)
+                .verifyComplete();
+
+        verify(cacheMaintenance).write(eq("cliente:" + clienteId), eq(cliente), eq(0L), eq(Duration.ofMinutes(5)),
+                eq(Duration.ofMinutes(15)), any(Duration.class));
     }
 
     @Test
     void execute_WhenClienteNotFound_ShouldThrowNotFoundException() {
-        when(cachePort.get(anyString(), eq(Cliente.class))).thenReturn(Mono.empty());
+        when(cachePort.lookup(anyString(), eq(Cliente.class))).thenReturn(Mono.empty());
         when(clienteRepository.findById(any(UUID.class))).thenReturn(Mono.empty());
+        when(cachePort.setNotFound(anyString(), any(Duration.class))).thenReturn(Mono.just(true));
+
+        StepVerifier.create(getClienteByIdUseCase.execute(clienteId))
+                .expectError(ClienteNotFoundException.class)
+                .verify();
+
+        verify(cachePort).setNotFound("cliente:" + clienteId, Duration.ofSeconds(30));
+    }
+
+    @Test
+    void execute_WhenNegativeEntryCached_ShouldThrowNotFoundWithoutQueryingDatabase() {
+        when(cachePort.lookup(anyString(), eq(Cliente.class))).thenReturn(Mono.just(CacheLookup.notFound()));
 
         StepVerifier.create(getClienteByIdUseCase.execute(clienteId))
                 .expectError(ClienteNotFoundException.class)
                 .verify();
+
+        verify(clienteRepository, never()).findById(any());
+    }
+
+    @Test
+    void execute_WhenDeletedInDatabase_ShouldCacheTombstone() {
+        cliente.setDeletedAt(LocalDateTime.now());
+
+        when(cachePort.lookup(anyString(), eq(Cliente.class))).thenReturn(Mono.empty());
+        when(clienteRepository.findById(any(UUID.class))).thenReturn(Mono.just(cliente));
+        when(cachePort.setDeleted(anyString(), any(Duration.class))).thenReturn(Mono.just(true));
+
+        StepVerifier.create(getClienteByIdUseCase.execute(clienteId))
+                .expectError(ClienteDeletedException.class)
+                .verify();
+
+        verify(cachePort).setDeleted("cliente:" + clienteId, Duration.ofMinutes(5));
+        verify(cachePort, never()).setIfNewer(anyString(), any(), anyLong(), any(), any(), any());
     }
 
     @Test
     void execute_WhenClienteIsDeleted_ShouldThrowClienteDeletedException() {
         cliente.setDeletedAt(LocalDateTime.now());
         
-        when(cachePort.get(anyString(), eq(Cliente.class))).thenReturn(Mono.just(cliente));
+        when(cachePort.lookup(anyString(), eq(Cliente.class))).thenReturn(Mono.just(CacheLookup.hit(cliente)));
 
         StepVerifier.create(getClienteByIdUseCase.execute(clienteId))
                 .expectError(ClienteDeletedException.class)
                 .verify();
     }
+
+    @Test
+    void execute_WhenEntryIsStale_ShouldServeItAndRefreshInBackground() {
+        when(cachePort.lookup(anyString(), eq(Cliente.class))).thenReturn(Mono.just(CacheLookup.hit(cliente, 1L, 0L)));
+        when(clienteRepository.findById(any(UUID.class))).thenReturn(Mono.just(cliente));
+        when(cachePort.setIfNewer(anyString(), any(), anyLong(), any(Duration.class), any(Duration.class), any(Duration.class)))
+                .thenReturn(Mono.just(true));
+        when(clienteMapper.toResponse(any(Cliente.class))).thenReturn(response);
+
+        StepVerifier.create(getClienteByIdUseCase.execute(clienteId))
+                .expectNext(response)
+                .verifyComplete();
+
+        verify(clienteRepository).findById(clienteId);
+        verify(cachePort).setIfNewer(eq("cliente:" + clienteId), eq(cliente), eq(0L), any(Duration.class),
+                any(Duration.class), any(Duration.class));
+    }
+
+    @Test
+    void execute_WhenRefreshFails_ShouldStillServeStaleEntry() {
+        when(cachePort.lookup(anyString(), eq(Cliente.class))).thenReturn(Mono.just(CacheLookup.hit(cliente, 1L, 0L)));
+        when(clienteRepository.findById(any(UUID.class))).thenReturn(Mono.error(new IllegalStateException("sin conexión")));
+        when(clienteMapper.toResponse(any(Cliente.class))).thenReturn(response);
+
+        StepVerifier.create(getClienteByIdUseCase.execute(clienteId))
+                .expectNext(response)
+                .verifyComplete();
+
+        verify(cachePort, never()).setIfNewer(anyString(), any(), anyLong(), any(), any(), any());
+    }
+
+    @Test
+    void execute_WhenEntryIsFresh_ShouldNotRefresh() {
+        long softExpiresAt = System.currentTimeMillis() + Duration.ofMinutes(5).toMillis();
+        when(cachePort.lookup(anyString(), eq(Cliente.class)))
+                .thenReturn(Mono.just(CacheLookup.hit(cliente, softExpiresAt, 10L)));
+        when(clienteMapper.toResponse(any(Cliente.class))).thenReturn(response);
+
+        StepVerifier.create(getClienteByIdUseCase.execute(clienteId))
+                .expectNext(response)
+                .verifyComplete();
+
+        verify(singleFlight, never()).execute(anyString(), any(), any());
+        verify(clienteRepository, never()).findById(any());
+    }
 }
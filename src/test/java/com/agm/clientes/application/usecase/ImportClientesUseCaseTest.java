@@ -0,0 +1,199 @@
+package com.agm.clientes.application.usecase;
+
+import com.agm.clientes.application.dto.request.ClienteCreateRequest;
+import com.agm.clientes.application.mapper.ClienteMapper;
+import com.agm.clientes.application.mapper.ImportJobMapper;
+import com.agm.clientes.domain.model.Cliente;
+import com.agm.clientes.domain.model.ImportJob;
+import com.agm.clientes.domain.model.ImportJobProgress;
+import com.agm.clientes.domain.model.ImportJobStatus;
+import com.agm.clientes.domain.port.out.CacheMaintenancePort;
+import com.agm.clientes.domain.port.out.ClienteImportPort;
+import com.agm.clientes.domain.port.out.ImportJobRepositoryPort;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImportClientesUseCaseTest {
+
+    @Mock
+    private ClienteImportPort clienteImportPort;
+
+    @Mock
+    private ImportJobRepositoryPort importJobRepository;
+
+    @Mock
+    private ImportJobSupervisor importJobSupervisor;
+
+    @Mock
+    private CacheMaintenancePort cacheMaintenance;
+
+    @Mock
+    private ClienteMapper clienteMapper;
+
+    @Spy
+    private ImportJobMapper importJobMapper = Mappers.getMapper(ImportJobMapper.class);
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    @Spy
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @InjectMocks
+    private ImportClientesUseCase importClientesUseCase;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(importJobRepository.save(any(ImportJob.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        lenient().when(clienteImportPort.clearStaging(any(UUID.class))).thenReturn(Mono.empty());
+        lenient().doAnswer(invocation -> ((Mono<?>) invocation.getArgument(1)).subscribe())
+                .when(importJobSupervisor).submit(any(ImportJobProgress.class), any(Mono.class));
+        lenient().when(clienteMapper.toEntity(any(ClienteCreateRequest.class))).thenAnswer(invocation -> {
+            ClienteCreateRequest request = invocation.getArgument(0);
+            return Cliente.builder()
+                    .nombre(request.getNombre())
+                    .email(request.getEmail())
+                    .telefono(request.getTelefono())
+                    .activo(true)
+                    .build();
+        });
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void execute_WhenMixedLines_ShouldCopyValidRowsAndReportInvalidOnes() {
+        when(clienteImportPort.copyToStaging(any(UUID.class), any(Flux.class)))
+                .thenAnswer(invocation -> ((Flux<Cliente>) invocation.getArgument(1)).count());
+        when(clienteImportPort.mergeStaging(any(UUID.class))).thenReturn(Mono.just(1L));
+        when(cacheMaintenance.bumpGeneration(anyString())).thenReturn(Mono.empty());
+
+        Flux<String> lines = Flux.just(
+                "{\"nombre\":\"Juan Perez\",\"email\":\"juan@example.com\"}",
+                "",
+                "{\"nombre\":\"Juan P\",\"email\":\"JUAN@example.com\"}\r",
+                "{\"nombre\":\"Ana\",\"email\":\"no-es-email\"}",
+                "{roto");
+
+        StepVerifier.create(importClientesUseCase.execute(lines))
+                .assertNext(response -> {
+                    assertEquals(ImportJobStatus.MERGING, response.getStatus());
+                    assertEquals(2, response.getStaged());
+                })
+                .verifyComplete();
+
+        ImportJob job = savedJob();
+        assertEquals(ImportJobStatus.COMPLETED, job.getStatus());
+        assertEquals(4, job.getReceived());
+        assertEquals(2, job.getStaged());
+        assertEquals(1, job.getInserted());
+        assertEquals(1, job.getDuplicates());
+        assertEquals(2, job.getInvalid());
+        assertEquals(List.of("Línea 4: email: El email debe tener un formato válido", "Línea 5: JSON inválido"),
+                job.getErrors());
+        verify(cacheMaintenance).bumpGeneration("clientes:list");
+        verify(clienteImportPort).clearStaging(job.getId());
+        verify(importJobSupervisor).submit(any(ImportJobProgress.class), any(Mono.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void execute_ShouldPersistEachStateAsAnImmutableSnapshot() {
+        when(clienteImportPort.copyToStaging(any(UUID.class), any(Flux.class)))
+                .thenAnswer(invocation -> ((Flux<Cliente>) invocation.getArgument(1)).count());
+        when(clienteImportPort.mergeStaging(any(UUID.class))).thenReturn(Mono.just(1L));
+        when(cacheMaintenance.bumpGeneration(anyString())).thenReturn(Mono.empty());
+
+        StepVerifier.create(importClientesUseCase.execute(Flux.just("{\"nombre\":\"Juan Perez\",\"email\":\"juan@example.com\"}")))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        ArgumentCaptor<ImportJob> captor = ArgumentCaptor.forClass(ImportJob.class);
+        verify(importJobRepository, times(4)).save(captor.capture());
+        assertEquals(List.of(ImportJobStatus.RECEIVING, ImportJobStatus.COPYING, ImportJobStatus.MERGING, ImportJobStatus.COMPLETED),
+                captor.getAllValues().stream().map(ImportJob::getStatus).toList());
+        assertEquals(0, captor.getAllValues().get(1).getReceived());
+        assertEquals(1, captor.getAllValues().get(2).getStaged());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void execute_ShouldReturnJobIdBeforeMergeFinishes() {
+        when(clienteImportPort.copyToStaging(any(UUID.class), any(Flux.class)))
+                .thenAnswer(invocation -> ((Flux<Cliente>) invocation.getArgument(1)).count());
+        when(clienteImportPort.mergeStaging(any(UUID.class))).thenReturn(Mono.never());
+
+        StepVerifier.create(importClientesUseCase.execute(Flux.just("{\"nombre\":\"Juan Perez\",\"email\":\"juan@example.com\"}")))
+                .assertNext(response -> assertEquals(ImportJobStatus.MERGING, response.getStatus()))
+                .verifyComplete();
+
+        assertEquals(ImportJobStatus.MERGING, savedJob().getStatus());
+        verify(clienteImportPort, never()).clearStaging(any(UUID.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void execute_WhenCopyFails_ShouldMarkJobFailedAndClearStaging() {
+        when(clienteImportPort.copyToStaging(any(UUID.class), any(Flux.class)))
+                .thenReturn(Mono.error(new IllegalStateException("conexión cerrada")));
+
+        StepVerifier.create(importClientesUseCase.execute(Flux.just("{\"nombre\":\"Juan Perez\",\"email\":\"juan@example.com\"}")))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        ImportJob job = savedJob();
+        assertEquals(ImportJobStatus.FAILED, job.getStatus());
+        assertEquals("conexión cerrada", job.getFailure());
+        verify(clienteImportPort, never()).mergeStaging(any(UUID.class));
+        verify(clienteImportPort).clearStaging(job.getId());
+        verify(cacheMaintenance, never()).bumpGeneration(anyString());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void execute_WhenUploadFails_ShouldReportFailedJobWithoutMerging() {
+        when(clienteImportPort.copyToStaging(any(UUID.class), any(Flux.class)))
+                .thenAnswer(invocation -> ((Flux<Cliente>) invocation.getArgument(1)).count());
+        Flux<String> lines = Flux.concat(Flux.just("{\"nombre\":\"Juan Perez\",\"email\":\"juan@example.com\"}"),
+                Flux.error(new IllegalStateException("cliente desconectado")));
+
+        StepVerifier.create(importClientesUseCase.execute(lines))
+                .assertNext(response -> {
+                    assertEquals(ImportJobStatus.FAILED, response.getStatus());
+                    assertEquals("cliente desconectado", response.getFailure());
+                })
+                .verifyComplete();
+
+        UUID jobId = savedJob().getId();
+        verify(clienteImportPort).clearStaging(jobId);
+        verify(clienteImportPort, never()).mergeStaging(any(UUID.class));
+    }
+
+    private ImportJob savedJob() {
+        ArgumentCaptor<ImportJob> captor = ArgumentCaptor.forClass(ImportJob.class);
+        verify(importJobRepository, atLeastOnce()).save(captor.capture());
+        return captor.getValue();
+    }
+}
@@ -0,0 +1,70 @@
+package com.agm.clientes.application.usecase;
+
+import com.agm.clientes.domain.model.ImportJob;
+import com.agm.clientes.domain.model.ImportJobProgress;
+import com.agm.clientes.domain.model.ImportJobStatus;
+import com.agm.clientes.domain.port.out.ClienteImportPort;
+import com.agm.clientes.domain.port.out.ImportJobRepositoryPort;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImportJobSupervisorTest {
+
+    @Mock
+    private ClienteImportPort clienteImportPort;
+
+    @Mock
+    private ImportJobRepositoryPort importJobRepository;
+
+    @InjectMocks
+    private ImportJobSupervisor importJobSupervisor;
+
+    @Test
+    void submit_WhenWorkFinishes_ShouldStopTrackingIt() {
+        importJobSupervisor.submit(new ImportJobProgress(UUID.randomUUID(), 10), Mono.just(1));
+
+        assertEquals(0, importJobSupervisor.running());
+
+        importJobSupervisor.destroy();
+
+        verifyNoInteractions(clienteImportPort, importJobRepository);
+    }
+
+    @Test
+    void destroy_WhenImportIsRunning_ShouldCancelItAndPersistItAsFailed() {
+        when(clienteImportPort.clearStaging(any(UUID.class))).thenReturn(Mono.empty());
+        when(importJobRepository.save(any(ImportJob.class)))
+                .thenAnswer(invocation -> Mono.just(invocation.getArgument(0)));
+        ImportJobProgress progress = new ImportJobProgress(UUID.randomUUID(), 10);
+        progress.copying();
+        progress.staged(3);
+        AtomicBoolean cancelled = new AtomicBoolean();
+
+        importJobSupervisor.submit(progress, Mono.never().doOnCancel(() -> cancelled.set(true)));
+        assertEquals(1, importJobSupervisor.running());
+
+        importJobSupervisor.destroy();
+
+        assertTrue(cancelled.get());
+        ArgumentCaptor<ImportJob> captor = ArgumentCaptor.forClass(ImportJob.class);
+        verify(importJobRepository).save(captor.capture());
+        assertEquals(ImportJobStatus.FAILED, captor.getValue().getStatus());
+        assertEquals("Importación interrumpida por apagado del servicio", captor.getValue().getFailure());
+        verify(clienteImportPort).clearStaging(progress.getId());
+        assertEquals(0, importJobSupervisor.running());
+    }
+}
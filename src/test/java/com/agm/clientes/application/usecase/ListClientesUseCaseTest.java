@@ -0,0 +1,274 @@
+package com.agm.clientes.application.usecase;
+
+import com.agm.clientes.application.config.ClienteCacheProperties;
+import com.agm.clientes.application.dto.cache.ClientePageCacheEntry;
+import com.agm.clientes.application.dto.response.ClienteResponse;
+import com.agm.clientes.application.mapper.ClienteCursorCodec;
+import com.agm.clientes.application.mapper.ClienteMapper;
+import com.agm.clientes.domain.exception.InvalidCursorException;
+import com.agm.clientes.domain.exception.InvalidSortException;
+import com.agm.clientes.domain.model.Cliente;
+import com.agm.clientes.domain.model.ClienteCursor;
+import com.agm.clientes.domain.model.ClienteField;
+import com.agm.clientes.domain.model.ClienteSortField;
+import com.agm.clientes.domain.model.CountMode;
+import com.agm.clientes.domain.model.ReadConsistency;
+import com.agm.clientes.domain.port.out.CacheMaintenancePort;
+import com.agm.clientes.domain.port.out.CachePort;
+import com.agm.clientes.domain.port.out.ClienteRepositoryPort;
+import com.agm.clientes.domain.port.out.SingleFlightPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ListClientesUseCaseTest {
+
+    @Mock
+    private ClienteRepositoryPort clienteRepository;
+
+    @Mock
+    private CachePort cachePort;
+
+    @Mock
+    private CacheMaintenancePort cacheMaintenance;
+
+    @Mock
+    private ClienteMapper clienteMapper;
+
+    @Mock
+    private SingleFlightPort singleFlight;
+
+    @Spy
+    private ClienteCursorCodec cursorCodec = new ClienteCursorCodec();
+
+    @Spy
+    private ClienteCacheProperties cacheProperties = new ClienteCacheProperties();
+
+    @InjectMocks
+    private ListClientesUseCase listClientesUseCase;
+
+    private Cliente first;
+    private Cliente second;
+
+    @BeforeEach
+    void setUp() {
+        first = Cliente.builder()
+                .id(UUID.randomUUID())
+                .nombre("Juan Perez")
+                .email("juan@example.com")
+                .activo(true)
+                .createdAt(LocalDateTime.of(2024, 1, 2, 10, 0, 0, 123456000))
+                .version(0L)
+                .build();
+
+        second = Cliente.builder()
+                .id(UUID.randomUUID())
+                .nombre("Ana Lopez")
+                .email("ana@example.com")
+                .activo(true)
+                .createdAt(LocalDateTime.of(2024, 1, 1, 10, 0))
+                .version(0L)
+                .build();
+
+        lenient().when(cachePort.generation("clientes:list")).thenReturn(Mono.just(4L));
+        lenient().when(cachePort.get(anyString(), eq(ClientePageCacheEntry.class))).thenReturn(Mono.empty());
+        lenient().when(cachePort.set(anyString(), any(ClientePageCacheEntry.class), any(Duration.class)))
+                .thenReturn(Mono.just(true));
+
+        lenient().when(singleFlight.execute(anyString(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<Mono<?>>>getArgument(2).get());
+    }
+
+    @Test
+    void execute_WhenPageIsCached_ShouldNotQueryDatabase() {
+        ClienteResponse cached = ClienteResponse.builder().id(first.getId()).nombre(first.getNombre()).build();
+        when(cachePort.get("clientes:list:4:activo=true:deleted=false:q=juan+perez:page=0:size=10"
+                + ":sort=createdAt,DESC:count=EXACT:fields=*", ClientePageCacheEntry.class))
+                .thenReturn(Mono.just(ClientePageCacheEntry.builder()
+                        .content(List.of(cached))
+                        .totalElements(21L)
+                        .hasNext(true)
+                        .build()));
+
+        StepVerifier.create(listClientesUseCase.execute(true, false, "  Juan Perez ", 0, 10, "created_at", "desc",
+                        CountMode.EXACT, ClienteField.ALL))
+                .expectNextMatches(page -> page.getContent().equals(List.of(cached))
+                        && page.getTotalElements() == 21L
+                        && page.getTotalPages() == 3
+                        && page.isFirst()
+                        && page.isHasNext())
+                .verifyComplete();
+
+        verify(clienteRepository, never()).findAll(any(), anyBoolean(), any(), anyLong(), anyInt(), any(), any(), any());
+        verify(clienteRepository, never()).count(any(), anyBoolean(), any());
+    }
+
+    @Test
+    void execute_WhenPageIsNotCached_ShouldLoadFromPrimaryAndStoreContentAndTotalTogether() {
+        when(clienteRepository.findAll(any(), anyBoolean(), any(), anyLong(), anyInt(), anyString(), anyString(), any()))
+                .thenReturn(Flux.deferContextual(context -> context.getOrDefault(ReadConsistency.CONTEXT_KEY,
+                        ReadConsistency.ANY) == ReadConsistency.PRIMARY ? Flux.just(first) : Flux.empty()));
+        when(clienteRepository.count(any(), anyBoolean(), any())).thenReturn(Mono.just(1L));
+        when(clienteMapper.toResponse(any(Cliente.class))).thenReturn(new ClienteResponse());
+
+        StepVerifier.create(listClientesUseCase.execute(null, false, null, 0, 10, "createdAt", "DESC", CountMode.EXACT,
+                        ClienteField.ALL))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        verify(cachePort).set(eq("clientes:list:4:activo=*:deleted=false:q=:page=0:size=10:sort=createdAt,DESC"
+                        + ":count=EXACT:fields=*"),
+                argThat((ClientePageCacheEntry entry) -> entry.getContent().size() == 1 && entry.getTotalElements() == 1L),
+                eq(Duration.ofSeconds(30)));
+    }
+
+    @Test
+    void execute_WhenOffsetMode_ShouldReturnPageWithTotals() {
+        when(clienteRepository.findAll(any(), anyBoolean(), any(), anyLong(), anyInt(), anyString(), anyString(), any()))
+                .thenReturn(Flux.just(first, second, second));
+        when(clienteRepository.count(any(), anyBoolean(), any())).thenReturn(Mono.just(5L));
+        when(clienteMapper.toResponse(any(Cliente.class))).thenReturn(new ClienteResponse());
+
+        StepVerifier.create(listClientesUseCase.execute(null, false, null, 1, 2, "createdAt", "DESC", CountMode.EXACT, ClienteField.ALL))
+                .expectNextMatches(page -> page.getPage() == 1
+                        && page.getContent().size() == 2
+                        && page.getTotalElements() == 5
+                        && page.getTotalPages() == 3
+                        && page.getCountMode() == CountMode.EXACT
+                        && page.isHasNext()
+                        && page.getNextCursor() == null)
+                .verifyComplete();
+
+        verify(clienteRepository).findAll(null, false, null, 2L, 3, "createdAt", "DESC", ClienteField.ALL);
+    }
+
+    @Test
+    void execute_WhenCountModeNone_ShouldNotQueryCount() {
+        when(clienteRepository.findAll(any(), anyBoolean(), any(), anyLong(), anyInt(), anyString(), anyString(), any()))
+                .thenReturn(Flux.just(first));
+        when(clienteMapper.toResponse(any(Cliente.class))).thenReturn(new ClienteResponse());
+
+        StepVerifier.create(listClientesUseCase.execute(null, false, null, 0, 2, "createdAt", "DESC", CountMode.NONE, ClienteField.ALL))
+                .expectNextMatches(page -> page.getTotalElements() == null
+                        && page.getTotalPages() == null
+                        && page.getCountMode() == CountMode.NONE
+                        && page.isLast()
+                        && !page.isHasNext())
+                .verifyComplete();
+
+        verify(clienteRepository, never()).count(any(), anyBoolean(), any());
+        verify(clienteRepository, never()).estimateCount(any(), anyBoolean(), any());
+    }
+
+    @Test
+    void execute_WhenCountModeEstimated_ShouldUseEstimate() {
+        when(clienteRepository.findAll(any(), anyBoolean(), any(), anyLong(), anyInt(), anyString(), anyString(), any()))
+                .thenReturn(Flux.just(first));
+        when(clienteRepository.estimateCount(any(), anyBoolean(), any())).thenReturn(Mono.just(1000L));
+        when(clienteMapper.toResponse(any(Cliente.class))).thenReturn(new ClienteResponse());
+
+        StepVerifier.create(listClientesUseCase.execute(true, false, null, 0, 10, "createdAt", "DESC", 
+                        CountMode.ESTIMATED, ClienteField.ALL))
+                .expectNextMatches(page -> page.getTotalElements() == 1000L
+                        && page.getCountMode() == CountMode.ESTIMATED)
+                .verifyComplete();
+
+        verify(clienteRepository, never()).count(any(), anyBoolean(), any());
+    }
+
+    @Test
+    void executeWithCursor_WhenMoreRowsThanSize_ShouldReturnNextCursor() {
+        when(clienteRepository.findAllAfter(any(), anyBoolean(), any(), isNull(), eq(2), anyString(), anyString(), any()))
+                .thenReturn(Flux.just(first, second));
+        when(clienteRepository.count(any(), anyBoolean(), any())).thenReturn(Mono.just(2L));
+        when(clienteMapper.toResponse(any(Cliente.class))).thenReturn(new ClienteResponse());
+
+        StepVerifier.create(listClientesUseCase.executeWithCursor(null, false, null, null, 1, "createdAt", "DESC", 
+                        CountMode.EXACT, ClienteField.ALL))
+                .expectNextMatches(page -> page.getContent().size() == 1
+                        && page.isFirst()
+                        && page.isHasNext()
+                        && page.getNextCursor() != null)
+                .verifyComplete();
+    }
+
+    @Test
+    void executeWithCursor_WhenCursorProvided_ShouldSeekAfterLastRow() {
+        String cursor = cursorCodec.encode(first, ClienteSortField.CREATED_AT, Sort.Direction.DESC);
+
+        when(clienteRepository.findAllAfter(any(), anyBoolean(), any(), any(ClienteCursor.class), eq(11),
+                anyString(), anyString(), any()))
+                .thenReturn(Flux.just(second));
+        when(clienteRepository.count(any(), anyBoolean(), any())).thenReturn(Mono.just(2L));
+        when(clienteMapper.toResponse(any(Cliente.class))).thenReturn(new ClienteResponse());
+
+        StepVerifier.create(listClientesUseCase.executeWithCursor(null, false, null, cursor, 10, "createdAt", "DESC", 
+                        CountMode.EXACT, ClienteField.ALL))
+                .expectNextMatches(page -> !page.isFirst() && page.isLast() && page.getNextCursor() == null)
+                .verifyComplete();
+
+        verify(clienteRepository).findAllAfter(isNull(), eq(false), isNull(),
+                eq(ClienteCursor.builder().id(first.getId()).value(first.getCreatedAt().toString()).build()),
+                eq(11), eq("createdAt"), eq("DESC"), eq(ClienteField.ALL));
+    }
+
+    @Test
+    void executeWithCursor_WhenCursorDoesNotMatchSort_ShouldThrowInvalidCursorException() {
+        String cursor = cursorCodec.encode(first, ClienteSortField.NOMBRE, Sort.Direction.ASC);
+
+        StepVerifier.create(listClientesUseCase.executeWithCursor(null, false, null, cursor, 10, "createdAt", "DESC", 
+                        CountMode.EXACT, ClienteField.ALL))
+                .expectError(InvalidCursorException.class)
+                .verify();
+
+        verify(clienteRepository, never()).findAllAfter(any(), anyBoolean(), any(), any(), anyInt(), any(), any(), any());
+    }
+
+    @Test
+    void execute_WhenSortFieldIsUnknown_ShouldThrowInvalidSortException() {
+        StepVerifier.create(listClientesUseCase.execute(null, false, null, 0, 10, "telefono", "DESC",
+                        CountMode.EXACT, ClienteField.ALL))
+                .expectError(InvalidSortException.class)
+                .verify();
+
+        verify(clienteRepository, never()).findAll(any(), anyBoolean(), any(), anyLong(), anyInt(), any(), any(), any());
+    }
+
+    @Test
+    void execute_WhenRelevanceWithoutQuery_ShouldThrowInvalidSortException() {
+        StepVerifier.create(listClientesUseCase.execute(null, false, " ", 0, 10, "relevance", "DESC",
+                        CountMode.EXACT, ClienteField.ALL))
+                .expectError(InvalidSortException.class)
+                .verify();
+
+        verify(clienteRepository, never()).findAll(any(), anyBoolean(), any(), anyLong(), anyInt(), any(), any(), any());
+    }
+
+    @Test
+    void executeWithCursor_WhenRelevanceRequested_ShouldThrowInvalidSortException() {
+        StepVerifier.create(listClientesUseCase.executeWithCursor(null, false, "juan", null, 10, "relevance", "DESC",
+                        CountMode.EXACT, ClienteField.ALL))
+                .expectError(InvalidSortException.class)
+                .verify();
+
+        verify(clienteRepository, never()).findAllAfter(any(), anyBoolean(), any(), any(), anyInt(), any(), any(), any());
+    }
+}
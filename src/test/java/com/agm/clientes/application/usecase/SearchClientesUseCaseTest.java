@@ -0,0 +1,87 @@
+package com.agm.clientes.application.usecase;
+
+import com.agm.clientes.application.dto.response.ClienteResponse;
+import com.agm.clientes.application.mapper.ClienteCursorCodec;
+import com.agm.clientes.application.mapper.ClienteMapper;
+import com.agm.clientes.domain.exception.InvalidCursorException;
+import com.agm.clientes.domain.model.Cliente;
+import com.agm.clientes.domain.model.ClienteCursor;
+import com.agm.clientes.domain.model.ClienteSearchHit;
+import com.agm.clientes.domain.model.CountMode;
+import com.agm.clientes.domain.port.out.ClienteRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchClientesUseCaseTest {
+
+    @Mock
+    private ClienteRepositoryPort clienteRepository;
+
+    @Mock
+    private ClienteMapper clienteMapper;
+
+    @Spy
+    private ClienteCursorCodec cursorCodec = new ClienteCursorCodec();
+
+    @InjectMocks
+    private SearchClientesUseCase searchClientesUseCase;
+
+    private ClienteSearchHit best;
+    private ClienteSearchHit other;
+
+    @BeforeEach
+    void setUp() {
+        best = ClienteSearchHit.builder()
+                .cliente(Cliente.builder().id(UUID.randomUUID()).nombre("José Pérez").build())
+                .rank(0.9f)
+                .build();
+
+        other = ClienteSearchHit.builder()
+                .cliente(Cliente.builder().id(UUID.randomUUID()).nombre("Jose Luis").build())
+                .rank(0.4f)
+                .build();
+    }
+
+    @Test
+    void execute_WhenMoreHitsThanSize_ShouldReturnRelevanceCursor() {
+        when(clienteRepository.search(anyString(), any(), isNull(), eq(2))).thenReturn(Flux.just(best, other));
+        when(clienteMapper.toResponse(any(Cliente.class))).thenReturn(new ClienteResponse());
+
+        StepVerifier.create(searchClientesUseCase.execute("jose", null, null, 1))
+                .expectNextMatches(page -> page.getContent().size() == 1
+                        && page.isHasNext()
+                        && page.getCountMode() == CountMode.NONE
+                        && cursorCodec.decodeRelevance(page.getNextCursor()).equals(
+                                ClienteCursor.builder().id(best.getCliente().getId()).value("0.9").build()))
+                .verifyComplete();
+    }
+
+    @Test
+    void execute_WhenQueryBlank_ShouldReturnEmptyPageWithoutQuery() {
+        StepVerifier.create(searchClientesUseCase.execute("  ", null, null, 10))
+                .expectNextMatches(page -> page.getContent().isEmpty() && page.isLast())
+                .verifyComplete();
+
+        verifyNoInteractions(clienteRepository);
+    }
+
+    @Test
+    void execute_WhenCursorIsNotRelevanceCursor_ShouldThrowInvalidCursorException() {
+        StepVerifier.create(searchClientesUseCase.execute("jose", null, "bm90LWEtY3Vyc29y", 10))
+                .expectError(InvalidCursorException.class)
+                .verify();
+    }
+}
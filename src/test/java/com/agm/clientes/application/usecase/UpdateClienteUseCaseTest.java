@@ -1,5 +1,6 @@
 package com.agm.clientes.application.usecase;
 
+import com.agm.clientes.application.config.ClienteCacheProperties;
 import com.agm.clientes.application.dto.request.ClienteUpdateRequest;
 import com.agm.clientes.application.dto.response.ClienteResponse;
 import com.agm.clientes.application.mapper.ClienteMapper;
@@ -8,17 +9,21 @@ import com.agm.clientes.domain.exception.ClienteNotFoundException;
 import com.agm.clientes.domain.exception.DuplicateEmailException;
 import com.agm.clientes.domain.exception.OptimisticLockException;
 import com.agm.clientes.domain.model.Cliente;
-import com.agm.clientes.domain.port.out.CachePort;
+import com.agm.clientes.domain.model.ClienteState;
+import com.agm.clientes.domain.port.out.CacheMaintenancePort;
 import com.agm.clientes.domain.port.out.ClienteRepositoryPort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -32,11 +37,14 @@ class UpdateClienteUseCaseTest {
     private ClienteRepositoryPort clienteRepository;
 
     @Mock
-    private CachePort cachePort;
+    private CacheMaintenancePort cacheMaintenance;
 
     @Mock
     private ClienteMapper clienteMapper;
 
+    @Spy
+    private ClienteCacheProperties cacheProperties = new ClienteCacheProperties();
+
     @InjectMocks
     private UpdateClienteUseCase updateClienteUseCase;
 
@@ -88,25 +96,36 @@ class UpdateClienteUseCaseTest {
     }
 
     @Test
-    void execute_WhenValidUpdate_ShouldUpdateCliente() {
-        when(clienteRepository.findById(any(UUID.class))).thenReturn(Mono.just(existingCliente));
-        when(clienteMapper.toEntity(any(ClienteUpdateRequest.class))).thenReturn(updatedCliente);
-        when(clienteRepository.save(any(Cliente.class))).thenReturn(Mono.just(updatedCliente));
-        when(cachePort.delete(anyString())).thenReturn(Mono.just(true));
-        when(cachePort.deleteByPattern(anyString())).thenReturn(Mono.just(true));
+    void execute_WhenValidUpdate_ShouldUpdateClienteInSingleStatement() {
+        when(clienteMapper.toEntity(any(ClienteUpdateRequest.class))).thenReturn(Cliente.builder()
+                .nombre(request.getNombre())
+                .email(request.getEmail())
+                .telefono(request.getTelefono())
+                .activo(true)
+                .build());
+        when(clienteRepository.updateIfCurrent(any(Cliente.class))).thenReturn(Mono.just(updatedCliente));
+        when(cacheMaintenance.write(anyString(), any(), anyLong(), any(Duration.class), any(Duration.class), any(Duration.class)))
+                .thenReturn(Mono.empty());
+        when(cacheMaintenance.bumpGeneration(anyString())).thenReturn(Mono.empty());
         when(clienteMapper.toResponse(any(Cliente.class))).thenReturn(response);
 
         StepVerifier.create(updateClienteUseCase.execute(clienteId, request))
                 .expectNext(response)
                 .verifyComplete();
 
-        verify(clienteRepository).findById(clienteId);
-        verify(clienteRepository).save(any(Cliente.class));
+        verify(clienteRepository).updateIfCurrent(argThat(cliente -> clienteId.equals(cliente.getId())
+                && cliente.getVersion() == 0L));
+        verify(clienteRepository, never()).findById(any(UUID.class));
+        verify(clienteRepository, never()).findState(any(UUID.class));
+        verify(cacheMaintenance).write(eq("cliente:" + clienteId), eq(updatedCliente), eq(1L), eq(Duration.ofMinutes(5)),
+                eq(Duration.ofMinutes(15)), eq(Duration.ZERO));
     }
 
     @Test
     void execute_WhenClienteNotFound_ShouldThrowNotFoundException() {
-        when(clienteRepository.findById(any(UUID.class))).thenReturn(Mono.empty());
+        when(clienteMapper.toEntity(any(ClienteUpdateRequest.class))).thenReturn(new Cliente());
+        when(clienteRepository.updateIfCurrent(any(Cliente.class))).thenReturn(Mono.empty());
+        when(clienteRepository.findState(any(UUID.class))).thenReturn(Mono.empty());
 
         StepVerifier.create(updateClienteUseCase.execute(clienteId, request))
                 .expectError(ClienteNotFoundException.class)
@@ -115,8 +134,13 @@ class UpdateClienteUseCaseTest {
 
     @Test
     void execute_WhenClienteIsDeleted_ShouldThrowClienteDeletedException() {
-        existingCliente.setDeletedAt(LocalDateTime.now());
-        when(clienteRepository.findById(any(UUID.class))).thenReturn(Mono.just(existingCliente));
+        when(clienteMapper.toEntity(any(ClienteUpdateRequest.class))).thenReturn(new Cliente());
+        when(clienteRepository.updateIfCurrent(any(Cliente.class))).thenReturn(Mono.empty());
+        when(clienteRepository.findState(any(UUID.class))).thenReturn(Mono.just(ClienteState.builder()
+                .id(clienteId)
+                .version(0L)
+                .deletedAt(LocalDateTime.now())
+                .build()));
 
         StepVerifier.create(updateClienteUseCase.execute(clienteId, request))
                 .expectError(ClienteDeletedException.class)
@@ -126,7 +150,12 @@ class UpdateClienteUseCaseTest {
     @Test
     void execute_WhenVersionMismatch_ShouldThrowOptimisticLockException() {
         request.setVersion(5L);
-        when(clienteRepository.findById(any(UUID.class))).thenReturn(Mono.just(existingCliente));
+        when(clienteMapper.toEntity(any(ClienteUpdateRequest.class))).thenReturn(new Cliente());
+        when(clienteRepository.updateIfCurrent(any(Cliente.class))).thenReturn(Mono.empty());
+        when(clienteRepository.findState(any(UUID.class))).thenReturn(Mono.just(ClienteState.builder()
+                .id(clienteId)
+                .version(existingCliente.getVersion())
+                .build()));
 
         StepVerifier.create(updateClienteUseCase.execute(clienteId, request))
                 .expectError(OptimisticLockException.class)
@@ -136,12 +165,14 @@ class UpdateClienteUseCaseTest {
     @Test
     void execute_WhenEmailChangedAndDuplicate_ShouldThrowDuplicateEmailException() {
         request.setEmail("otro@example.com");
-        when(clienteRepository.findById(any(UUID.class))).thenReturn(Mono.just(existingCliente));
-        when(clienteRepository.existsByEmailIgnoreCaseAndIdNot(anyString(), any(UUID.class)))
-                .thenReturn(Mono.just(true));
+        when(clienteMapper.toEntity(any(ClienteUpdateRequest.class))).thenReturn(new Cliente());
+        when(clienteRepository.updateIfCurrent(any(Cliente.class)))
+                .thenReturn(Mono.error(new DuplicateKeyException("idx_clientes_email")));
 
         StepVerifier.create(updateClienteUseCase.execute(clienteId, request))
                 .expectError(DuplicateEmailException.class)
                 .verify();
+
+        verify(clienteRepository, never()).findState(any(UUID.class));
     }
 }
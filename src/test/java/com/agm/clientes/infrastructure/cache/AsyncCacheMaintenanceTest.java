@@ -0,0 +1,207 @@
+package com.agm.clientes.infrastructure.cache;
+
+import com.agm.clientes.application.config.ClienteCacheProperties;
+import com.agm.clientes.domain.model.Cliente;
+import com.agm.clientes.domain.port.out.CachePort;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncCacheMaintenanceTest {
+
+    @Mock
+    private CachePort cachePort;
+
+    private ClienteCacheProperties cacheProperties;
+    private SimpleMeterRegistry meterRegistry;
+    private AsyncCacheMaintenance cacheMaintenance;
+    private Cliente cliente;
+    private String key;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cacheProperties = new ClienteCacheProperties();
+        cacheMaintenance = new AsyncCacheMaintenance(cachePort, meterRegistry, cacheProperties);
+        cliente = Cliente.builder()
+                .id(UUID.randomUUID())
+                .nombre("Juan Perez")
+                .email("juan@example.com")
+                .activo(true)
+                .version(2L)
+                .build();
+        key = "cliente:" + cliente.getId();
+    }
+
+    @Test
+    void write_ShouldOnlyQueueBeforeReturning() {
+        StepVerifier.create(cacheMaintenance.write(key, cliente, 2L, Duration.ofMinutes(5), Duration.ofMinutes(15),
+                        Duration.ZERO))
+                .verifyComplete();
+
+        verifyNoInteractions(cachePort);
+        assertEquals(1, cacheMaintenance.pendingCount());
+        assertEquals(1.0, meterRegistry.get("clientes.cache.maintenance.queue").gauge().value());
+    }
+
+    @Test
+    void flush_WhenSameKeyWrittenTwice_ShouldApplyOnlyHighestVersion() {
+        Cliente older = Cliente.builder().id(cliente.getId()).nombre("Juan").version(1L).build();
+        when(cachePort.setIfNewer(eq(key), any(), anyLong(), any(Duration.class), any(Duration.class),
+                any(Duration.class))).thenReturn(Mono.just(true));
+
+        cacheMaintenance.write(key, cliente, 2L, Duration.ofMinutes(5), Duration.ofMinutes(15), Duration.ZERO).block();
+        cacheMaintenance.write(key, older, 1L, Duration.ofMinutes(5), Duration.ofMinutes(15), Duration.ZERO).block();
+
+        StepVerifier.create(cacheMaintenance.flush(Long.MAX_VALUE, 256)).expectNext(1).verifyComplete();
+
+        verify(cachePort, times(1)).setIfNewer(anyString(), any(), anyLong(), any(), any(), any());
+        verify(cachePort).setIfNewer(eq(key), eq(cliente), eq(2L), any(), any(), any());
+        assertEquals(1.0, meterRegistry.get("clientes.cache.maintenance.tasks").tag("result", "coalesced")
+                .counter().count());
+    }
+
+    @Test
+    void flush_WhenKeyIsTombstoned_ShouldNotOverwriteWithLaterWrite() {
+        when(cachePort.setDeleted(key, Duration.ofMinutes(5))).thenReturn(Mono.just(true));
+
+        cacheMaintenance.markDeleted(key, Duration.ofMinutes(5)).block();
+        cacheMaintenance.write(key, cliente, 3L, Duration.ofMinutes(5), Duration.ofMinutes(15), Duration.ZERO).block();
+
+        StepVerifier.create(cacheMaintenance.flush(Long.MAX_VALUE, 256)).expectNext(1).verifyComplete();
+
+        verify(cachePort).setDeleted(key, Duration.ofMinutes(5));
+        verify(cachePort, never()).setIfNewer(anyString(), any(), anyLong(), any(), any(), any());
+    }
+
+    @Test
+    void flush_WhenEvictionFollowedByStaleWrite_ShouldKeepEviction() {
+        when(cachePort.deleteAll(List.of(key))).thenReturn(Mono.just(true));
+
+        cacheMaintenance.evict(List.of(key)).block();
+        cacheMaintenance.write(key, cliente, 2L, Duration.ofMinutes(5), Duration.ofMinutes(15), Duration.ZERO).block();
+
+        StepVerifier.create(cacheMaintenance.flush(Long.MAX_VALUE, 256)).expectNext(1).verifyComplete();
+
+        verify(cachePort).deleteAll(List.of(key));
+        verify(cachePort, never()).setIfNewer(anyString(), any(), anyLong(), any(), any(), any());
+    }
+
+    @Test
+    void flush_WhenWriteFollowedByNegativeLookup_ShouldKeepWrite() {
+        when(cachePort.setIfNewer(eq(key), any(), anyLong(), any(Duration.class), any(Duration.class),
+                any(Duration.class))).thenReturn(Mono.just(true));
+
+        cacheMaintenance.write(key, cliente, 0L, Duration.ofMinutes(5), Duration.ofMinutes(15), Duration.ZERO).block();
+        cacheMaintenance.markNotFound(key, Duration.ofSeconds(30)).block();
+
+        StepVerifier.create(cacheMaintenance.flush(Long.MAX_VALUE, 256)).expectNext(1).verifyComplete();
+
+        verify(cachePort).setIfNewer(eq(key), eq(cliente), eq(0L), any(), any(), any());
+        verify(cachePort, never()).setNotFound(anyString(), any());
+    }
+
+    @Test
+    void flush_ShouldSendEvictionsAsSingleBatch() {
+        when(cachePort.deleteAll(anyCollection())).thenReturn(Mono.just(true));
+
+        cacheMaintenance.evict(List.of("cliente:1", "cliente:2", "cliente:3")).block();
+
+        StepVerifier.create(cacheMaintenance.flush(Long.MAX_VALUE, 256)).expectNext(3).verifyComplete();
+
+        verify(cachePort, times(1)).deleteAll(argThat(keys -> keys.size() == 3));
+        verify(cachePort, never()).delete(anyString());
+        assertEquals(0, cacheMaintenance.pendingCount());
+        assertEquals(3.0, meterRegistry.get("clientes.cache.maintenance.tasks").tag("result", "completed")
+                .counter().count());
+    }
+
+    @Test
+    void flush_WhenRedisFails_ShouldRetryAndDropAfterMaxAttempts() {
+        when(cachePort.setNotFound(key, Duration.ofSeconds(30)))
+                .thenReturn(Mono.error(new IllegalStateException("sin conexión")));
+
+        cacheMaintenance.markNotFound(key, Duration.ofSeconds(30)).block();
+
+        StepVerifier.create(cacheMaintenance.flush(Long.MAX_VALUE, 256)).expectNext(1).verifyComplete();
+        assertEquals(1, cacheMaintenance.pendingCount());
+        StepVerifier.create(cacheMaintenance.flush(System.currentTimeMillis(), 256)).expectNext(0).verifyComplete();
+
+        for (int attempt = 2; attempt <= 5; attempt++) {
+            cacheMaintenance.flush(Long.MAX_VALUE, 256).block();
+        }
+
+        verify(cachePort, times(5)).setNotFound(key, Duration.ofSeconds(30));
+        assertEquals(0, cacheMaintenance.pendingCount());
+        assertEquals(4.0, meterRegistry.get("clientes.cache.maintenance.tasks").tag("result", "retried")
+                .counter().count());
+        assertEquals(1.0, meterRegistry.get("clientes.cache.maintenance.tasks").tag("result", "dropped")
+                .counter().count());
+    }
+
+    @Test
+    void bumpGeneration_ShouldApplyBeforeReturning() {
+        when(cachePort.bumpGeneration("clientes:list")).thenReturn(Mono.just(4L));
+
+        StepVerifier.create(cacheMaintenance.bumpGeneration("clientes:list")).verifyComplete();
+
+        verify(cachePort).bumpGeneration("clientes:list");
+        assertEquals(0, cacheMaintenance.pendingCount());
+    }
+
+    @Test
+    void bumpGeneration_WhenRedisFails_ShouldQueueRetry() {
+        when(cachePort.bumpGeneration("clientes:list"))
+                .thenReturn(Mono.error(new IllegalStateException("sin conexión")))
+                .thenReturn(Mono.just(5L));
+
+        StepVerifier.create(cacheMaintenance.bumpGeneration("clientes:list")).verifyComplete();
+        assertEquals(1, cacheMaintenance.pendingCount());
+
+        StepVerifier.create(cacheMaintenance.flush(Long.MAX_VALUE, 256)).expectNext(1).verifyComplete();
+
+        verify(cachePort, times(2)).bumpGeneration("clientes:list");
+        assertEquals(0, cacheMaintenance.pendingCount());
+    }
+
+    @Test
+    void enqueue_WhenQueueIsFull_ShouldShedFillsAndDeleteInvalidatedKeysSynchronously() {
+        cacheProperties.getMaintenance().setCapacity(1);
+        when(cachePort.delete(anyString())).thenReturn(Mono.just(true));
+        when(cachePort.setNotFound("cliente:1", Duration.ofSeconds(30))).thenReturn(Mono.just(true));
+
+        cacheMaintenance.markNotFound("cliente:1", Duration.ofSeconds(30)).block();
+        cacheMaintenance.write(key, cliente, 2L, Duration.ofMinutes(5), Duration.ofMinutes(15), Duration.ZERO).block();
+        cacheMaintenance.markDeleted("cliente:2", Duration.ofMinutes(5)).block();
+        cacheMaintenance.markNotFound("cliente:3", Duration.ofSeconds(30)).block();
+
+        verify(cachePort).delete(key);
+        verify(cachePort).delete("cliente:2");
+        verify(cachePort, never()).deleteByPattern(anyString());
+        verify(cachePort, never()).setIfNewer(anyString(), any(), anyLong(), any(), any(), any());
+        verify(cachePort, never()).setDeleted(anyString(), any());
+        assertEquals(1, cacheMaintenance.pendingCount());
+        assertEquals(2.0, meterRegistry.get("clientes.cache.maintenance.tasks").tag("result", "overflowed")
+                .counter().count());
+        assertEquals(1.0, meterRegistry.get("clientes.cache.maintenance.tasks").tag("result", "shed")
+                .counter().count());
+
+        StepVerifier.create(cacheMaintenance.flush(Long.MAX_VALUE, 256)).expectNext(1).verifyComplete();
+
+        verify(cachePort, never()).setNotFound(eq("cliente:3"), any());
+    }
+}
@@ -0,0 +1,208 @@
+package com.agm.clientes.infrastructure.cache;
+
+import com.agm.clientes.application.config.ClienteCacheProperties;
+import com.agm.clientes.domain.model.CacheLookup;
+import com.agm.clientes.domain.model.Cliente;
+import com.agm.clientes.infrastructure.cache.codec.CacheCodecs;
+import com.agm.clientes.infrastructure.cache.codec.ClienteBinaryCodec;
+import com.agm.clientes.infrastructure.cache.codec.SmileCacheCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LayeredCacheAdapterTest {
+
+    private static final String CHANNEL = "clientes:cache:invalidation";
+
+    @Mock
+    private RedisCacheAdapter remote;
+
+    @Mock
+    private ReactiveRedisTemplate<String, String> redisTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LayeredCacheAdapter layeredCacheAdapter;
+    private Cliente cliente;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        layeredCacheAdapter = new LayeredCacheAdapter(remote,
+                new CacheCodecs(List.of(new ClienteBinaryCodec(), new SmileCacheCodec()), new ClienteCacheProperties()),
+                redisTemplate,
+                meterRegistry, 1024 * 1024, Duration.ofMinutes(1), CHANNEL);
+        cliente = Cliente.builder()
+                .id(UUID.randomUUID())
+                .nombre("Juan Perez")
+                .email("juan@example.com")
+                .activo(true)
+                .build();
+    }
+
+    @Test
+    void get_WhenLoadedFromRedis_ShouldServeNextReadsFromLocalTier() {
+        String key = "cliente:" + cliente.getId();
+        when(remote.lookup(key, Cliente.class)).thenReturn(Mono.just(CacheLookup.hit(cliente)));
+
+        StepVerifier.create(layeredCacheAdapter.get(key, Cliente.class)).expectNext(cliente).verifyComplete();
+        StepVerifier.create(layeredCacheAdapter.get(key, Cliente.class)).expectNext(cliente).verifyComplete();
+
+        verify(remote, times(1)).lookup(key, Cliente.class);
+        assertEquals(1.0, meterRegistry.get("clientes.cache.gets").tag("tier", "l2").tag("result", "hit")
+                .counter().count());
+    }
+
+    @Test
+    void get_WhenServedFromLocalTier_ShouldReturnIndependentCopies() {
+        String key = "cliente:" + cliente.getId();
+        when(remote.lookup(key, Cliente.class)).thenReturn(Mono.just(CacheLookup.hit(cliente)));
+
+        Cliente first = layeredCacheAdapter.get(key, Cliente.class).block();
+        first.setNombre("Modificado");
+
+        StepVerifier.create(layeredCacheAdapter.get(key, Cliente.class))
+                .assertNext(second -> assertEquals("Juan Perez", second.getNombre()))
+                .verifyComplete();
+        verify(remote, times(1)).lookup(key, Cliente.class);
+    }
+
+    @Test
+    void onInvalidation_WhenKeyMessageFromAnotherNode_ShouldDropLocalEntryWithoutTouchingRedis() {
+        String key = "cliente:" + cliente.getId();
+        when(remote.lookup(key, Cliente.class)).thenReturn(Mono.just(CacheLookup.hit(cliente)));
+
+        StepVerifier.create(layeredCacheAdapter.get(key, Cliente.class)).expectNext(cliente).verifyComplete();
+        layeredCacheAdapter.onInvalidation("otro-nodo K " + key);
+        StepVerifier.create(layeredCacheAdapter.get(key, Cliente.class)).expectNext(cliente).verifyComplete();
+
+        verify(remote, times(2)).lookup(key, Cliente.class);
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void set_ShouldWriteBothTiersAndPublishInvalidation() {
+        String key = "cliente:" + cliente.getId();
+        when(remote.set(key, cliente, Duration.ofMinutes(5))).thenReturn(Mono.just(true));
+        when(redisTemplate.convertAndSend(eq(CHANNEL), anyString())).thenReturn(Mono.just(1L));
+
+        StepVerifier.create(layeredCacheAdapter.set(key, cliente, Duration.ofMinutes(5)))
+                .expectNext(true)
+                .verifyComplete();
+        StepVerifier.create(layeredCacheAdapter.get(key, Cliente.class)).expectNext(cliente).verifyComplete();
+
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), endsWith(" K " + key));
+        verify(remote, never()).lookup(anyString(), any());
+    }
+
+    @Test
+    void onInvalidation_WhenMessageFromAnotherNode_ShouldEvictMatchingLocalEntries() {
+        when(remote.set(anyString(), any(), any(Duration.class))).thenReturn(Mono.just(true));
+        when(redisTemplate.convertAndSend(eq(CHANNEL), anyString())).thenReturn(Mono.just(1L));
+
+        layeredCacheAdapter.set("clientes:list:a", cliente, Duration.ofMinutes(5)).block();
+        layeredCacheAdapter.set("cliente:" + cliente.getId(), cliente, Duration.ofMinutes(5)).block();
+
+        layeredCacheAdapter.onInvalidation("otro-nodo P clientes:list:*");
+
+        assertEquals(1, layeredCacheAdapter.localSize());
+    }
+
+    @Test
+    void generation_ShouldAlwaysReadFromRedis() {
+        when(remote.bumpGeneration("clientes:list")).thenReturn(Mono.just(7L));
+        when(remote.generation("clientes:list")).thenReturn(Mono.just(7L), Mono.just(8L));
+
+        StepVerifier.create(layeredCacheAdapter.bumpGeneration("clientes:list")).expectNext(7L).verifyComplete();
+        StepVerifier.create(layeredCacheAdapter.generation("clientes:list")).expectNext(7L).verifyComplete();
+        StepVerifier.create(layeredCacheAdapter.generation("clientes:list")).expectNext(8L).verifyComplete();
+
+        verify(remote, times(2)).generation("clientes:list");
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void lookupAll_ShouldOnlyAskRedisForKeysMissingLocally() {
+        String localKey = "cliente:" + cliente.getId();
+        String remoteKey = "cliente:" + UUID.randomUUID();
+        String missingKey = "cliente:" + UUID.randomUUID();
+        when(remote.lookup(localKey, Cliente.class)).thenReturn(Mono.just(CacheLookup.hit(cliente)));
+        when(remote.lookupAll(List.of(remoteKey, missingKey), Cliente.class))
+                .thenReturn(Mono.just(Map.of(remoteKey, CacheLookup.notFound())));
+
+        StepVerifier.create(layeredCacheAdapter.lookup(localKey, Cliente.class)).expectNextCount(1).verifyComplete();
+        StepVerifier.create(layeredCacheAdapter.lookupAll(List.of(localKey, remoteKey, missingKey), Cliente.class))
+                .assertNext(found -> {
+                    assertEquals(2, found.size());
+                    assertEquals(cliente, found.get(localKey).getValue());
+                    assertEquals(CacheLookup.State.NOT_FOUND, found.get(remoteKey).getState());
+                })
+                .verifyComplete();
+
+        assertEquals(1.0, meterRegistry.get("clientes.cache.gets").tag("tier", "l2").tag("result", "miss")
+                .counter().count());
+    }
+
+    @Test
+    void setIfNewer_WhenRedisHoldsNewerVersion_ShouldDropLocalEntryWithoutPublishing() {
+        String key = "cliente:" + cliente.getId();
+        when(remote.set(key, cliente, Duration.ofMinutes(5))).thenReturn(Mono.just(true));
+        when(remote.setIfNewer(eq(key), any(), eq(3L), any(Duration.class), any(Duration.class), any(Duration.class)))
+                .thenReturn(Mono.just(false));
+        when(redisTemplate.convertAndSend(eq(CHANNEL), anyString())).thenReturn(Mono.just(1L));
+        when(remote.lookup(key, Cliente.class)).thenReturn(Mono.empty());
+
+        StepVerifier.create(layeredCacheAdapter.set(key, cliente, Duration.ofMinutes(5)))
+                .expectNext(true)
+                .verifyComplete();
+        StepVerifier.create(layeredCacheAdapter.setIfNewer(key, cliente, 3L, Duration.ofMinutes(5),
+                        Duration.ofMinutes(15), Duration.ZERO))
+                .expectNext(false)
+                .verifyComplete();
+        StepVerifier.create(layeredCacheAdapter.get(key, Cliente.class)).verifyComplete();
+
+        verify(redisTemplate, times(1)).convertAndSend(eq(CHANNEL), anyString());
+    }
+
+    @Test
+    void setNotFound_WhenRedisAlreadyHoldsEntry_ShouldNotCacheNegativeLocally() {
+        String key = "cliente:" + cliente.getId();
+        when(remote.setNotFound(key, Duration.ofSeconds(30))).thenReturn(Mono.just(false));
+        when(remote.lookup(key, Cliente.class)).thenReturn(Mono.just(CacheLookup.hit(cliente)));
+
+        StepVerifier.create(layeredCacheAdapter.setNotFound(key, Duration.ofSeconds(30)))
+                .expectNext(false)
+                .verifyComplete();
+        StepVerifier.create(layeredCacheAdapter.get(key, Cliente.class)).expectNext(cliente).verifyComplete();
+
+        verify(redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    void lookup_WhenFrameExpiresBeforeLocalTtl_ShouldExpireLocallyWithIt() throws InterruptedException {
+        String key = "cliente:" + cliente.getId();
+        when(remote.lookup(key, Cliente.class))
+                .thenAnswer(invocation -> Mono.just(CacheLookup.hit(cliente, System.currentTimeMillis() + 20, 0)));
+
+        StepVerifier.create(layeredCacheAdapter.lookup(key, Cliente.class)).expectNextCount(1).verifyComplete();
+        Thread.sleep(100);
+        StepVerifier.create(layeredCacheAdapter.lookup(key, Cliente.class)).expectNextCount(1).verifyComplete();
+
+        verify(remote, times(2)).lookup(key, Cliente.class);
+    }
+}
@@ -0,0 +1,120 @@
+package com.agm.clientes.infrastructure.cache;
+
+import com.agm.clientes.application.config.ClienteCacheProperties;
+import com.agm.clientes.domain.model.ReadConsistency;
+import com.agm.clientes.infrastructure.persistence.ReadReplicaRouter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+import reactor.util.context.Context;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisSingleFlightTest {
+
+    @Mock
+    private ReactiveRedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ReactiveValueOperations<String, String> valueOperations;
+
+    @Mock
+    private ReadReplicaRouter readReplicaRouter;
+
+    @Spy
+    private ClienteCacheProperties cacheProperties = new ClienteCacheProperties();
+
+    @InjectMocks
+    private RedisSingleFlight singleFlight;
+
+    @Test
+    void execute_WhenConcurrentMisses_ShouldShareOneLoad() {
+        AtomicInteger loads = new AtomicInteger();
+        Sinks.One<String> database = Sinks.one();
+
+        Mono<String> first = singleFlight.execute("cliente:1", Mono::empty, () -> {
+            loads.incrementAndGet();
+            return database.asMono();
+        });
+        Mono<String> second = singleFlight.execute("cliente:1", Mono::empty, () -> {
+            loads.incrementAndGet();
+            return database.asMono();
+        });
+
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> database.tryEmitValue("juan"))
+                .assertNext(tuple -> {
+                    assertEquals("juan", tuple.getT1());
+                    assertEquals("juan", tuple.getT2());
+                })
+                .verifyComplete();
+
+        assertEquals(1, loads.get());
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    void execute_WhenCallerPinnedToPrimary_ShouldNotJoinReplicaFlight() {
+        Context pinned = Context.of(ReadConsistency.CONTEXT_KEY, ReadConsistency.PRIMARY);
+        when(readReplicaRouter.pinsToPrimary(any())).thenAnswer(invocation ->
+                invocation.<ContextView>getArgument(0).hasKey(ReadConsistency.CONTEXT_KEY));
+        AtomicInteger loads = new AtomicInteger();
+        Sinks.One<String> replica = Sinks.one();
+
+        Mono<String> unpinned = singleFlight.execute("cliente:1", Mono::empty, () -> {
+            loads.incrementAndGet();
+            return replica.asMono();
+        });
+        Mono<String> primary = singleFlight.execute("cliente:1", Mono::empty, () -> {
+            loads.incrementAndGet();
+            return Mono.just("desde-primario");
+        }).contextWrite(pinned);
+
+        StepVerifier.create(Mono.zip(unpinned, primary))
+                .then(() -> replica.tryEmitValue("desde-replica"))
+                .assertNext(tuple -> {
+                    assertEquals("desde-replica", tuple.getT1());
+                    assertEquals("desde-primario", tuple.getT2());
+                })
+                .verifyComplete();
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void execute_WhenLockHeldByAnotherNode_ShouldWaitForCachedValue() {
+        cacheProperties.getSingleFlight().setDistributedLock(true);
+        cacheProperties.getSingleFlight().setWaitInterval(Duration.ofMillis(1));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent(eq("lock:cliente:1"), anyString(), any(Duration.class)))
+                .thenReturn(Mono.just(false));
+        AtomicInteger lookups = new AtomicInteger();
+        AtomicInteger loads = new AtomicInteger();
+
+        StepVerifier.create(singleFlight.execute("cliente:1",
+                        () -> lookups.incrementAndGet() < 3 ? Mono.empty() : Mono.just("desde-cache"),
+                        () -> {
+                            loads.incrementAndGet();
+                            return Mono.just("desde-base");
+                        }))
+                .expectNext("desde-cache")
+                .verifyComplete();
+
+        assertEquals(0, loads.get());
+    }
+}
@@ -0,0 +1,140 @@
+package com.agm.clientes.infrastructure.cache.codec;
+
+import com.agm.clientes.application.config.ClienteCacheProperties;
+import com.agm.clientes.application.dto.cache.ClientePageCacheEntry;
+import com.agm.clientes.application.dto.response.ClienteResponse;
+import com.agm.clientes.domain.model.CacheLookup;
+import com.agm.clientes.domain.model.Cliente;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheCodecsTest {
+
+    private final CacheCodecs codecs = new CacheCodecs(List.of(new ClienteBinaryCodec(), new SmileCacheCodec()),
+            new ClienteCacheProperties());
+
+    @Test
+    void encode_WhenCliente_ShouldRoundTripThroughBinaryCodec() throws IOException {
+        Cliente cliente = Cliente.builder()
+                .id(UUID.randomUUID())
+                .nombre("José Pérez")
+                .email("jose@example.com")
+                .activo(false)
+                .createdAt(LocalDateTime.of(2024, 1, 2, 10, 0, 0, 123456000))
+                .updatedAt(LocalDateTime.of(2024, 1, 3, 11, 30))
+                .version(7L)
+                .build();
+
+        byte[] frame = codecs.encode(cliente);
+
+        assertEquals(1, frame[0]);
+        assertEquals(0, frame[1]);
+        assertEquals(cliente, codecs.decode(frame, Cliente.class));
+        assertTrue(frame.length < 100);
+    }
+
+    @Test
+    void encode_WhenPayloadAboveThreshold_ShouldCompressAndRoundTrip() throws IOException {
+        List<ClienteResponse> content = IntStream.range(0, 50)
+                .mapToObj(i -> ClienteResponse.builder()
+                        .id(UUID.randomUUID())
+                        .nombre("Cliente " + i)
+                        .email("cliente" + i + "@example.com")
+                        .activo(true)
+                        .createdAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+                        .version(0L)
+                        .build())
+                .toList();
+        ClientePageCacheEntry entry = ClientePageCacheEntry.builder()
+                .content(content)
+                .totalElements(500L)
+                .hasNext(true)
+                .build();
+
+        byte[] frame = codecs.encode(entry);
+
+        assertEquals(2, frame[0]);
+        assertEquals(1, frame[1]);
+        assertEquals(entry, codecs.decode(frame, ClientePageCacheEntry.class));
+    }
+
+    @Test
+    void decode_WhenLegacyJsonValue_ShouldFail() {
+        byte[] legacy = "{\"nombre\":\"Juan\"}".getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(IOException.class, () -> codecs.decode(legacy, Cliente.class));
+    }
+
+    @Test
+    void decodeLookup_WhenMarkers_ShouldReturnNegativeAndTombstoneStates() throws IOException {
+        assertEquals(2, codecs.encodeNotFound().length);
+        assertEquals(CacheLookup.State.NOT_FOUND, codecs.decodeLookup(codecs.encodeNotFound(), Cliente.class).getState());
+        assertEquals(CacheLookup.State.DELETED, codecs.decodeLookup(codecs.encodeDeleted(), Cliente.class).getState());
+    }
+
+    @Test
+    void decodeLookup_WhenTimedFrame_ShouldExposeSoftExpiryAndLoadTime() throws IOException {
+        Cliente cliente = Cliente.builder()
+                .id(UUID.randomUUID())
+                .nombre("Juan Perez")
+                .email("juan@example.com")
+                .activo(true)
+                .version(1L)
+                .build();
+
+        byte[] frame = codecs.encode(cliente, 1_700_000_000_000L, 42);
+        CacheLookup<Cliente> lookup = codecs.decodeLookup(frame, Cliente.class);
+
+        assertEquals(2, frame[1]);
+        assertEquals(cliente, lookup.getValue());
+        assertEquals(1_700_000_000_000L, lookup.getSoftExpiresAt());
+        assertEquals(42L, lookup.getLoadMillis());
+        assertEquals(cliente, codecs.decode(frame, Cliente.class));
+        assertTrue(lookup.isStale(1_700_000_000_001L));
+    }
+
+    @Test
+    void decodeLookup_WhenVersionedFrame_ShouldExposeVersionAheadOfTiming() throws IOException {
+        Cliente cliente = Cliente.builder()
+                .id(UUID.randomUUID())
+                .nombre("Juan Perez")
+                .email("juan@example.com")
+                .activo(true)
+                .version(258L)
+                .build();
+
+        byte[] frame = codecs.encodeVersioned(cliente, 258L, 1_700_000_000_000L, 42);
+        CacheLookup<Cliente> lookup = codecs.decodeLookup(frame, Cliente.class);
+
+        assertEquals(CacheCodecs.VERSIONED | 2, frame[1]);
+        assertEquals(1, frame[8]);
+        assertEquals(2, frame[9]);
+        assertEquals(258L, lookup.getVersion());
+        assertEquals(1_700_000_000_000L, lookup.getSoftExpiresAt());
+        assertEquals(42L, lookup.getLoadMillis());
+        assertEquals(cliente, lookup.getValue());
+    }
+
+    @Test
+    void encodeLookup_ShouldRoundTripEveryState() throws IOException {
+        Cliente cliente = Cliente.builder()
+                .id(UUID.randomUUID())
+                .nombre("Juan Perez")
+                .email("juan@example.com")
+                .activo(true)
+                .build();
+        CacheLookup<Cliente> hit = CacheLookup.hit(cliente, 1_700_000_000_000L, 42, 3L);
+
+        assertEquals(hit, codecs.decodeLookup(codecs.encodeLookup(hit), Cliente.class));
+        assertEquals(CacheLookup.notFound(), codecs.decodeLookup(codecs.encodeLookup(CacheLookup.notFound()), Cliente.class));
+        assertEquals(CacheLookup.deleted(), codecs.decodeLookup(codecs.encodeLookup(CacheLookup.deleted()), Cliente.class));
+    }
+}
@@ -0,0 +1,114 @@
+package com.agm.clientes.infrastructure.config;
+
+import com.agm.clientes.domain.model.ReadConsistency;
+import com.agm.clientes.infrastructure.persistence.ReadReplicaRouter;
+import com.agm.clientes.infrastructure.persistence.ReplicaLagGuard;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.security.Principal;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaConsistencyFilterTest {
+
+    @Mock
+    private ReadReplicaRouter readReplicaRouter;
+
+    @Mock
+    private ReplicaLagGuard replicaLagGuard;
+
+    @InjectMocks
+    private ReplicaConsistencyFilter filter;
+
+    private AtomicReference<Object> seenConsistency;
+    private WebFilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        when(readReplicaRouter.isReplicaEnabled()).thenReturn(true);
+        seenConsistency = new AtomicReference<>();
+        chain = exchange -> Mono.deferContextual(context -> {
+            seenConsistency.set(context.getOrDefault(ReadConsistency.CONTEXT_KEY, null));
+            return exchange.getResponse().setComplete();
+        });
+    }
+
+    @Test
+    void filter_WhenWrite_ShouldPinToPrimaryAndReturnConsistencyToken() {
+        when(replicaLagGuard.recordWrite("sesion-1")).thenReturn(Mono.just(1700000000000L));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/clientes")
+                .header(ReplicaConsistencyFilter.CALLER_HEADER, " sesion-1 "));
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        assertEquals(ReadConsistency.PRIMARY, seenConsistency.get());
+        assertEquals("1700000000000",
+                exchange.getResponse().getHeaders().getFirst(ReplicaConsistencyFilter.CONSISTENCY_TOKEN_HEADER));
+    }
+
+    @Test
+    void filter_WhenAnonymousWrite_ShouldRecordSharedWrite() {
+        when(replicaLagGuard.recordWrite(null)).thenReturn(Mono.just(1700000000000L));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.delete("/api/clientes/1"));
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        verify(replicaLagGuard).recordWrite(null);
+    }
+
+    @Test
+    void filter_WhenReadAfterRecentWrite_ShouldPinToPrimary() {
+        when(replicaLagGuard.requiresPrimary("sesion-1", "1700000000000")).thenReturn(Mono.just(true));
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/clientes")
+                .header(ReplicaConsistencyFilter.CALLER_HEADER, "sesion-1")
+                .header(ReplicaConsistencyFilter.CONSISTENCY_TOKEN_HEADER, "1700000000000"));
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        assertEquals(ReadConsistency.PRIMARY, seenConsistency.get());
+        verify(replicaLagGuard, never()).recordWrite(any());
+    }
+
+    @Test
+    void filter_WhenAuthenticated_ShouldPreferPrincipalOverHeader() {
+        when(replicaLagGuard.requiresPrimary("usuario-1", null)).thenReturn(Mono.just(false));
+        Principal principal = () -> "usuario-1";
+        ServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/api/clientes")
+                        .header(ReplicaConsistencyFilter.CALLER_HEADER, "sesion-1"))
+                .mutate()
+                .principal(Mono.just(principal))
+                .build();
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        assertNull(seenConsistency.get());
+    }
+
+    @Test
+    void filter_WhenReplicaDisabled_ShouldPassThrough() {
+        when(readReplicaRouter.isReplicaEnabled()).thenReturn(false);
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.post("/api/clientes")
+                .header(ReplicaConsistencyFilter.CALLER_HEADER, "sesion-1"));
+
+        StepVerifier.create(filter.filter(exchange, chain)).verifyComplete();
+
+        assertNull(seenConsistency.get());
+        verifyNoInteractions(replicaLagGuard);
+    }
+}
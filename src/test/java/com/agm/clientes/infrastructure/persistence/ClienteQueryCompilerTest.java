@@ -0,0 +1,125 @@
+package com.agm.clientes.infrastructure.persistence;
+
+import com.agm.clientes.domain.model.ClienteBulkOperation;
+import com.agm.clientes.domain.model.ClienteField;
+import com.agm.clientes.domain.model.ClienteSortField;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ClienteQueryCompilerTest {
+
+    private final ClienteQueryCompiler compiler = new ClienteQueryCompiler();
+
+    @Test
+    void page_WhenSameShape_ShouldReturnSameStatementInstance() {
+        String first = compiler.page(false, true, true, ClienteSortField.CREATED_AT, Sort.Direction.DESC);
+        String second = compiler.page(false, true, true, ClienteSortField.CREATED_AT, Sort.Direction.DESC);
+
+        assertSame(first, second);
+        assertEquals("SELECT " + ClienteQueryCompiler.CLIENTE_COLUMNS + " FROM clientes"
+                + " WHERE deleted_at IS NULL AND activo = :activo"
+                + " AND (LOWER(nombre) LIKE :query ESCAPE '\\' OR LOWER(email) LIKE :query ESCAPE '\\')"
+                + " ORDER BY created_at DESC, id DESC LIMIT :limit OFFSET :offset", first);
+    }
+
+    @Test
+    void seek_WhenCursorPresent_ShouldUseRowComparisonInSortDirection() {
+        String descending = compiler.seek(true, false, false, ClienteSortField.NOMBRE, Sort.Direction.DESC, true);
+        String ascending = compiler.seek(true, false, false, ClienteSortField.NOMBRE, Sort.Direction.ASC, true);
+
+        assertTrue(descending.contains("WHERE (nombre, id) < (:afterValue, :afterId)"));
+        assertTrue(ascending.contains("WHERE (nombre, id) > (:afterValue, :afterId)"));
+        assertTrue(ascending.endsWith("ORDER BY nombre ASC, id ASC LIMIT :limit"));
+    }
+
+    @Test
+    void count_WhenIncludeDeletedWithoutFilters_ShouldCountLiveAndArchivedRows() {
+        assertEquals("SELECT COUNT(*) FROM (SELECT " + ClienteQueryCompiler.CLIENTE_COLUMNS + " FROM clientes"
+                + " UNION ALL SELECT " + ClienteQueryCompiler.CLIENTE_COLUMNS + " FROM clientes_archive) clientes",
+                compiler.count(true, false, false));
+        assertTrue(compiler.estimate(true, false, false).contains("clientes_archive"));
+        assertEquals("SELECT COUNT(*) FROM clientes WHERE deleted_at IS NULL", compiler.count(false, false, false));
+    }
+
+    @Test
+    void counter_ShouldSumOnlyMatchingBuckets() {
+        assertEquals("SELECT COALESCE(SUM(total), 0)::bigint FROM clientes_counters WHERE deleted = FALSE AND activo = :activo",
+                compiler.counter(false, true));
+        assertEquals("SELECT COALESCE(SUM(total), 0)::bigint FROM clientes_counters", compiler.counter(true, false));
+    }
+
+    @Test
+    void export_WhenFiltersPresent_ShouldStreamWithoutSortOrLimit() {
+        assertEquals("SELECT " + ClienteQueryCompiler.CLIENTE_COLUMNS + " FROM clientes"
+                + " WHERE deleted_at IS NULL AND activo = :activo", compiler.export(false, true, false));
+    }
+
+    @Test
+    void project_WhenColumnsSelected_ShouldReplaceSelectListAndReuseStatement() {
+        String page = compiler.page(false, false, false, ClienteSortField.NOMBRE, Sort.Direction.ASC);
+        List<ClienteField> columns = List.of(ClienteField.ID, ClienteField.NOMBRE, ClienteField.ACTIVO);
+
+        String projected = compiler.project(page, columns);
+
+        assertEquals("SELECT id, nombre, activo FROM clientes WHERE deleted_at IS NULL"
+                + " ORDER BY nombre ASC, id ASC LIMIT :limit OFFSET :offset", projected);
+        assertSame(projected, compiler.project(page, columns));
+    }
+
+    @Test
+    void bulkUpdate_WhenFilterHasNoCriteria_ShouldRefuseUnrestrictedStatement() {
+        assertThrows(IllegalArgumentException.class,
+                () -> compiler.bulkUpdate(ClienteBulkOperation.DELETE, false, false, false));
+        assertEquals("UPDATE clientes SET activo = FALSE, updated_at = :now, version = version + 1"
+                        + " WHERE deleted_at IS NULL AND activo = :activo AND activo = TRUE RETURNING id, version",
+                compiler.bulkUpdate(ClienteBulkOperation.DEACTIVATE, false, true, false));
+    }
+
+    @Test
+    void likePattern_WhenInputHasWildcards_ShouldEscapeThemAsLiterals() {
+        assertEquals("%50\\%\\_off\\\\x%", compiler.likePattern("  50%_OFF\\x "));
+        assertEquals("%\\%%", compiler.likePattern("%"));
+        assertEquals("%\\_%", compiler.likePattern("_"));
+        assertEquals("%\\\\%", compiler.likePattern("\\"));
+    }
+
+    @Test
+    void likePattern_WhenPlainText_ShouldTrimLowercaseAndWrap() {
+        assertEquals("%juan perez%", compiler.likePattern("  Juan PEREZ "));
+        assertEquals("juan perez", compiler.term("  Juan PEREZ "));
+    }
+
+    @Test
+    void relevancePage_ShouldOrderBySimilarityWithIdTiebreak() {
+        String sql = compiler.relevancePage(false, true);
+
+        assertEquals("SELECT " + ClienteQueryCompiler.CLIENTE_COLUMNS + " FROM clientes"
+                + " WHERE deleted_at IS NULL AND activo = :activo"
+                + " AND (LOWER(nombre) LIKE :query ESCAPE '\\' OR LOWER(email) LIKE :query ESCAPE '\\')"
+                + " ORDER BY GREATEST(similarity(LOWER(nombre), :term), similarity(LOWER(email), :term)) DESC, id DESC"
+                + " LIMIT :limit OFFSET :offset", sql);
+        assertSame(sql, compiler.relevancePage(false, true));
+    }
+
+    @Test
+    void relevancePage_ShouldDeclareOnlyParametersBoundByRepository() {
+        Set<String> withActivo = parameters(compiler.relevancePage(false, true));
+        Set<String> withoutActivo = parameters(compiler.relevancePage(true, false));
+
+        assertEquals(Set.of("activo", "query", "term", "limit", "offset"), withActivo);
+        assertEquals(Set.of("query", "term", "limit", "offset"), withoutActivo);
+    }
+
+    private Set<String> parameters(String sql) {
+        return Pattern.compile("(?<!:):([a-zA-Z]+)").matcher(sql).results()
+                .map(match -> match.group(1))
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,40 @@
+package com.agm.clientes.infrastructure.persistence;
+
+import com.agm.clientes.domain.model.ReadConsistency;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.util.context.Context;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+class ReadReplicaRouterTest {
+
+    private final DatabaseClient primary = mock(DatabaseClient.class);
+    private final DatabaseClient replica = mock(DatabaseClient.class);
+
+    private final ReadReplicaRouter router = new ReadReplicaRouter(primary, replica, null);
+
+    @Test
+    void select_WhenNoConsistencyRequested_ShouldUseReplica() {
+        assertSame(replica, router.select(Context.empty()));
+        assertFalse(router.pinsToPrimary(Context.empty()));
+    }
+
+    @Test
+    void select_WhenPrimaryConsistencyRequested_ShouldUsePrimary() {
+        assertSame(primary, router.select(Context.of(ReadConsistency.CONTEXT_KEY, ReadConsistency.PRIMARY)));
+        assertSame(replica, router.select(Context.of(ReadConsistency.CONTEXT_KEY, ReadConsistency.ANY)));
+        assertTrue(router.pinsToPrimary(Context.of(ReadConsistency.CONTEXT_KEY, ReadConsistency.PRIMARY)));
+    }
+
+    @Test
+    void select_WhenReplicaDisabled_ShouldAlwaysUsePrimary() {
+        ReadReplicaRouter primaryOnly = ReadReplicaRouter.primaryOnly(primary);
+
+        assertSame(primary, primaryOnly.select(Context.empty()));
+        assertFalse(primaryOnly.pinsToPrimary(Context.of(ReadConsistency.CONTEXT_KEY, ReadConsistency.PRIMARY)));
+    }
+}
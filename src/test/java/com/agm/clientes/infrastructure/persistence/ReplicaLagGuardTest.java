@@ -0,0 +1,83 @@
+package com.agm.clientes.infrastructure.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaLagGuardTest {
+
+    @Mock
+    private ReactiveRedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ReactiveValueOperations<String, String> valueOperations;
+
+    @InjectMocks
+    private ReplicaLagGuard replicaLagGuard;
+
+    @Test
+    void recordWrite_ShouldStoreWriteWithLagGuardTtl() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.set(eq("replica:write:sesion-1"), anyString(), eq(Duration.ofSeconds(5))))
+                .thenReturn(Mono.just(true));
+
+        StepVerifier.create(replicaLagGuard.recordWrite("sesion-1"))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    @Test
+    void recordWrite_WhenCallerUnknown_ShouldOpenSharedAnonymousWindow() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.set(eq("replica:write:@anonymous"), anyString(), eq(Duration.ofSeconds(5))))
+                .thenReturn(Mono.error(new IllegalStateException("redis caído")));
+
+        StepVerifier.create(replicaLagGuard.recordWrite(null))
+                .expectNextCount(1)
+                .verifyComplete();
+    }
+
+    @Test
+    void requiresPrimary_WhenTokenIsRecent_ShouldSkipRedis() {
+        String token = Long.toString(System.currentTimeMillis());
+
+        StepVerifier.create(replicaLagGuard.requiresPrimary("sesion-1", token))
+                .expectNext(true)
+                .verifyComplete();
+
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    void requiresPrimary_WhenTokenExpired_ShouldCheckSharedWrite() {
+        String token = Long.toString(System.currentTimeMillis() - Duration.ofMinutes(1).toMillis());
+        when(redisTemplate.hasKey("replica:write:sesion-1")).thenReturn(Mono.just(false));
+
+        StepVerifier.create(replicaLagGuard.requiresPrimary("sesion-1", token))
+                .expectNext(false)
+                .verifyComplete();
+    }
+
+    @Test
+    void requiresPrimary_WhenRedisFails_ShouldUsePrimary() {
+        when(redisTemplate.hasKey("replica:write:@anonymous"))
+                .thenReturn(Mono.error(new IllegalStateException("redis caído")));
+
+        StepVerifier.create(replicaLagGuard.requiresPrimary(null, "no-es-token"))
+                .expectNext(true)
+                .verifyComplete();
+    }
+}
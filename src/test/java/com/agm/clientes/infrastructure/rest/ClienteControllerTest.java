@@ -2,20 +2,25 @@ package com.agm.clientes.infrastructure.rest;
 
 import com.agm.clientes.application.dto.request.ClienteCreateRequest;
 import com.agm.clientes.application.dto.response.ClienteResponse;
+import com.agm.clientes.application.mapper.ClienteFieldProjector;
 import com.agm.clientes.application.usecase.*;
 import com.agm.clientes.domain.exception.ClienteNotFoundException;
 import com.agm.clientes.domain.exception.DuplicateEmailException;
+import com.agm.clientes.domain.exception.InvalidCountModeException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.util.Map;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -28,6 +33,9 @@ class ClienteControllerTest {
     @Mock
     private GetClienteByIdUseCase getClienteByIdUseCase;
 
+    @Mock
+    private BatchGetClientesUseCase batchGetClientesUseCase;
+
     @Mock
     private ListClientesUseCase listClientesUseCase;
 
@@ -43,6 +51,27 @@ class ClienteControllerTest {
     @Mock
     private ToggleClienteActivoUseCase toggleClienteActivoUseCase;
 
+    @Mock
+    private SearchClientesUseCase searchClientesUseCase;
+
+    @Mock
+    private BulkCreateClientesUseCase bulkCreateClientesUseCase;
+
+    @Mock
+    private BulkClienteActionUseCase bulkClienteActionUseCase;
+
+    @Mock
+    private ExportClientesUseCase exportClientesUseCase;
+
+    @Mock
+    private ImportClientesUseCase importClientesUseCase;
+
+    @Mock
+    private GetImportJobUseCase getImportJobUseCase;
+
+    @Spy
+    private ClienteFieldProjector fieldProjector = new ClienteFieldProjector();
+
     @InjectMocks
     private ClienteController clienteController;
 
@@ -89,7 +118,7 @@ class ClienteControllerTest {
         when(getClienteByIdUseCase.execute(any(UUID.class)))
                 .thenReturn(Mono.just(clienteResponse));
 
-        StepVerifier.create(clienteController.getById(clienteId))
+        StepVerifier.create(clienteController.getById(clienteId, null))
                 .expectNextMatches(response -> 
                         response.getStatus() == 200 && 
                         response.getData().equals(clienteResponse))
@@ -98,6 +127,18 @@ class ClienteControllerTest {
         verify(getClienteByIdUseCase).execute(clienteId);
     }
 
+    @Test
+    void getById_WhenFieldsRequested_ShouldReturnOnlyRequestedProperties() {
+        when(getClienteByIdUseCase.execute(any(UUID.class)))
+                .thenReturn(Mono.just(clienteResponse));
+
+        StepVerifier.create(clienteController.getById(clienteId, "nombre, id"))
+                .expectNextMatches(response -> response.getData().equals(Map.of(
+                        "id", clienteResponse.getId(),
+                        "nombre", clienteResponse.getNombre())))
+                .verifyComplete();
+    }
+
     @Test
     void delete_WhenClienteExists_ShouldCompleteSuccessfully() {
         when(deleteClienteUseCase.execute(any(UUID.class))).thenReturn(Mono.empty());
@@ -107,4 +148,12 @@ class ClienteControllerTest {
 
         verify(deleteClienteUseCase).execute(clienteId);
     }
+
+    @Test
+    void list_WhenCountModeIsUnknown_ShouldRejectBeforeQuerying() {
+        assertThrows(InvalidCountModeException.class, () -> clienteController.list(null, false, null, 0, 10,
+                "createdAt", "DESC", "offset", null, "estimate", null));
+
+        verifyNoInteractions(listClientesUseCase);
+    }
 }